@@ -0,0 +1,41 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.wolfyscript.utilities.bukkit.WolfyCoreBukkit;
+import me.wolfyscript.utilities.main.WUPlugin;
+
+/**
+ * Starts the mocked server with the plugin loaded, which is required by most of the API (keys, registries, items).<br>
+ * Each benchmark runs in its own forked JVM, so the server is started once per trial and stopped afterwards.
+ */
+final class BenchmarkServer {
+
+    private static ServerMock server;
+    private static WUPlugin plugin;
+
+    private BenchmarkServer() {
+    }
+
+    static synchronized WUPlugin start() {
+        if (plugin == null) {
+            server = MockBukkit.mock();
+            plugin = MockBukkit.load(WolfyCoreBukkit.class);
+        }
+        return plugin;
+    }
+
+    static synchronized ServerMock getServer() {
+        start();
+        return server;
+    }
+
+    static synchronized void stop() {
+        if (plugin != null) {
+            MockBukkit.unmock();
+            server = null;
+            plugin = null;
+        }
+    }
+
+}
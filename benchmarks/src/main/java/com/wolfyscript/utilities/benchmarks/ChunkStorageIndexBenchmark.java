@@ -0,0 +1,112 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import com.wolfyscript.utilities.bukkit.persistent.world.BlockStorage;
+import com.wolfyscript.utilities.bukkit.persistent.world.ChunkStorage;
+import com.wolfyscript.utilities.bukkit.persistent.world.WorldStorage;
+import com.wolfyscript.utilities.math.Vec2i;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import me.wolfyscript.utilities.main.WUPlugin;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the block lookups of {@link WorldStorage#getBlock(int, int, int)}, which uses the packed index of the {@link ChunkStorage},
+ * with the previous index, which created a new chunk key and a new {@link Vector} key for each lookup.<br>
+ * The blocks are spread over 64x64 chunks. Half of the looked up positions are stored, like the block events of the listeners,
+ * which mostly hit blocks without data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkStorageIndexBenchmark {
+
+    private static final int LOOKUPS = 1024;
+    private static final int WORLD_SIZE = 64 * 16;
+
+    /**
+     * The amount of stored blocks in the world.
+     */
+    @Param({"1000", "10000", "100000"})
+    private int storedBlocks;
+
+    private WorldStorage worldStorage;
+    private final Map<Vec2i, Map<Vector, BlockStorage>> vectorIndex = new HashMap<>();
+    private final int[] lookups = new int[LOOKUPS * 3];
+
+    @Setup
+    public void setup() {
+        WUPlugin plugin = BenchmarkServer.start();
+        worldStorage = new WorldStorage(plugin, UUID.randomUUID());
+        PersistentDataAdapterContext context = new ItemStack(Material.STONE).getItemMeta().getPersistentDataContainer().getAdapterContext();
+
+        Random random = new Random(42);
+        int[] stored = new int[storedBlocks * 3];
+        for (int i = 0; i < storedBlocks; i++) {
+            int x = random.nextInt(WORLD_SIZE);
+            int y = random.nextInt(384) - 64;
+            int z = random.nextInt(WORLD_SIZE);
+            ChunkStorage chunkStorage = worldStorage.getOrCreateChunkStorage(x >> 4, z >> 4);
+            var block = new BlockStorage(chunkStorage, new Vector(x, y, z), context.newPersistentDataContainer());
+            chunkStorage.setBlockStorageIfAbsent(block);
+            vectorIndex.computeIfAbsent(new Vec2i(x >> 4, z >> 4), coords -> new HashMap<>()).put(new Vector(x, y, z), block);
+            stored[i * 3] = x;
+            stored[i * 3 + 1] = y;
+            stored[i * 3 + 2] = z;
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (i % 2 == 0) {
+                int index = random.nextInt(storedBlocks) * 3;
+                System.arraycopy(stored, index, lookups, i * 3, 3);
+            } else {
+                lookups[i * 3] = random.nextInt(WORLD_SIZE);
+                lookups[i * 3 + 1] = random.nextInt(384) - 64;
+                lookups[i * 3 + 2] = random.nextInt(WORLD_SIZE);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public void packedIndex(Blackhole blackhole) {
+        for (int i = 0; i < lookups.length; i += 3) {
+            blackhole.consume(worldStorage.getBlock(lookups[i], lookups[i + 1], lookups[i + 2]));
+        }
+    }
+
+    @Benchmark
+    public void vectorIndex(Blackhole blackhole) {
+        for (int i = 0; i < lookups.length; i += 3) {
+            int x = lookups[i];
+            int z = lookups[i + 2];
+            Map<Vector, BlockStorage> blocks = vectorIndex.get(new Vec2i(x >> 4, z >> 4));
+            blackhole.consume(blocks != null ? blocks.get(new Vector(x, lookups[i + 1], z)) : null);
+        }
+    }
+
+}
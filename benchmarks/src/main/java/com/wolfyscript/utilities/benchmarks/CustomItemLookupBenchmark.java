@@ -0,0 +1,78 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.main.WUPlugin;
+import me.wolfyscript.utilities.registry.RegistryCustomItem;
+import me.wolfyscript.utilities.util.NamespacedKey;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link RegistryCustomItem#getByItemStack(ItemStack)} with the previous lookup,
+ * that copied the ItemMeta and parsed a new key for each call.<br>
+ * MockBukkit has no NMS implementation, so this measures the fallback path of the ItemDataUtil and the interned keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomItemLookupBenchmark {
+
+    /**
+     * The item in hand: a CustomItem, or a plain item without a key.
+     */
+    @Param({"custom", "vanilla"})
+    private String item;
+
+    private RegistryCustomItem registry;
+    private ItemStack itemStack;
+
+    @Setup
+    public void setup() {
+        WUPlugin plugin = BenchmarkServer.start();
+        registry = plugin.getRegistries().getCustomItems();
+        var customItem = new CustomItem(Material.DIAMOND_SWORD);
+        customItem.setDisplayName("Benchmark Sword");
+        registry.register(new NamespacedKey("benchmarks", "sword"), customItem);
+        itemStack = item.equals("custom") ? customItem.create() : new ItemStack(Material.DIAMOND_SWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public Object registryLookup() {
+        return registry.getByItemStack(itemStack);
+    }
+
+    @Benchmark
+    public Object metaCopyLookup() {
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        if (itemMeta == null) return null;
+        String value = itemMeta.getPersistentDataContainer().get(CustomItem.PERSISTENT_KEY_TAG, PersistentDataType.STRING);
+        if (value == null) return null;
+        String[] parts = value.split(":", 2);
+        return registry.get(new NamespacedKey(parts[0].toLowerCase(Locale.ROOT), parts[1].toLowerCase(Locale.ROOT)));
+    }
+
+}
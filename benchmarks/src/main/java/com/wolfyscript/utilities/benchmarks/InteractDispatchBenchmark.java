@@ -0,0 +1,79 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import me.wolfyscript.utilities.api.inventory.custom_items.ActionSettings;
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.api.inventory.custom_items.actions.EventPlayerInteract;
+import me.wolfyscript.utilities.main.WUPlugin;
+import me.wolfyscript.utilities.util.NamespacedKey;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link PlayerInteractEvent}s through all the registered listeners of the plugin,
+ * with a plain item, a CustomItem without events, and a CustomItem with an interact event in hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InteractDispatchBenchmark {
+
+    @Param({"vanilla", "custom", "custom_with_events"})
+    private String item;
+
+    private ServerMock server;
+    private PlayerInteractEvent event;
+
+    @Setup
+    public void setup() {
+        WUPlugin plugin = BenchmarkServer.start();
+        server = BenchmarkServer.getServer();
+        Player player = server.addPlayer();
+
+        var customItem = new CustomItem(Material.STICK);
+        if (item.equals("custom_with_events")) {
+            var interact = new EventPlayerInteract() {};
+            interact.setActions(List.of());
+            var actionSettings = new ActionSettings();
+            actionSettings.setEvents(List.of(interact));
+            customItem.setActionSettings(actionSettings);
+        }
+        plugin.getRegistries().getCustomItems().register(new NamespacedKey("benchmarks", "stick"), customItem);
+        ItemStack itemStack = item.equals("vanilla") ? new ItemStack(Material.STICK) : customItem.create();
+        player.getInventory().setItemInMainHand(itemStack);
+        event = new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, itemStack, null, BlockFace.SELF);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public PlayerInteractEvent interact() {
+        server.getPluginManager().callEvent(event);
+        return event;
+    }
+
+}
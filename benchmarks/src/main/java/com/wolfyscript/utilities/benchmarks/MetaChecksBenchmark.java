@@ -0,0 +1,109 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.api.inventory.custom_items.meta.Meta;
+import me.wolfyscript.utilities.api.inventory.custom_items.meta.MetaSettings;
+import me.wolfyscript.utilities.api.inventory.custom_items.references.WolfyUtilitiesRef;
+import me.wolfyscript.utilities.main.WUPlugin;
+import me.wolfyscript.utilities.util.NamespacedKey;
+import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.Repairable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the compiled {@link MetaSettings} check with the previous check of each {@link Meta}, which read the ItemMeta of both items itself.<br>
+ * The compiled checks are cached for vanilla items and for items that link to a registered CustomItem.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetaChecksBenchmark {
+
+    @Param({"name", "lore", "custom_model_data", "enchant", "flags", "damage", "repair_cost", "unbreakable", "customitem_tag"})
+    private String meta;
+    /**
+     * The reference of the checked item: the vanilla item itself, or a registered CustomItem.
+     */
+    @Param({"vanilla", "wolfyutilities"})
+    private String reference;
+
+    private CustomItem item;
+    private Meta check;
+    private MetaSettings settings;
+    private ItemStack candidate;
+
+    @Setup
+    public void setup() {
+        WUPlugin plugin = BenchmarkServer.start();
+        var customItems = plugin.getRegistries().getCustomItems();
+
+        var baseKey = new NamespacedKey("benchmarks", "base");
+        var base = new CustomItem(createReferenceItem());
+        customItems.register(baseKey, base);
+        if (reference.equals("vanilla")) {
+            item = base;
+        } else {
+            item = CustomItem.with(new WolfyUtilitiesRef(baseKey));
+            customItems.register(new NamespacedKey("benchmarks", "linked"), item);
+        }
+
+        check = plugin.getRegistries().getCustomItemNbtChecks().create(NamespacedKey.of("wolfyutilities:" + meta));
+        settings = new MetaSettings();
+        settings.addCheck(check);
+        item.setMetaSettings(settings);
+        candidate = item.create();
+    }
+
+    private static ItemStack createReferenceItem() {
+        var itemStack = new ItemStack(Material.DIAMOND_SWORD);
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.setDisplayName("Benchmark Sword");
+        itemMeta.setLore(List.of("First line", "Second line", "Third line"));
+        itemMeta.setCustomModelData(1234);
+        itemMeta.addEnchant(Enchantment.DURABILITY, 3, true);
+        itemMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
+        itemMeta.setUnbreakable(true);
+        ((Damageable) itemMeta).setDamage(10);
+        ((Repairable) itemMeta).setRepairCost(5);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public boolean compiledCheck() {
+        return settings.check(item, new ItemBuilder(candidate));
+    }
+
+    @Benchmark
+    public boolean metaCheck() {
+        return check.check(item, new ItemBuilder(candidate));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.wolfyscript.utilities.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import me.wolfyscript.utilities.util.particles.shapes.Shape;
+import me.wolfyscript.utilities.util.particles.shapes.ShapeCircle;
+import me.wolfyscript.utilities.util.particles.shapes.ShapeComplexRotation;
+import me.wolfyscript.utilities.util.particles.shapes.ShapeIcosahedron;
+import me.wolfyscript.utilities.util.particles.shapes.ShapeSphere;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the points per second of the cached shape frames with drawing the vectors of the shape for each tick,
+ * like the animators did before. The points are counted by the {@link Points} counter.<br>
+ * Only the calculation of the positions is measured, the particles are not sent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticleFrameBenchmark {
+
+    /**
+     * The amount of timer steps until the time starts over, like a repeating timer.
+     */
+    private static final int TIMER_STEPS = 40;
+
+    @Param({"circle", "sphere", "icosahedron", "rotating_circle"})
+    private String shapeType;
+
+    private Shape shape;
+    private Location origin;
+    private int step = 0;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.start();
+        shape = switch (shapeType) {
+            case "circle" -> new ShapeCircle(2, 40, Shape.Direction.Y_AXIS);
+            case "sphere" -> new ShapeSphere(2, 10, Shape.Direction.Y_AXIS);
+            case "icosahedron" -> new ShapeIcosahedron(2, 1, 0.2);
+            case "rotating_circle" -> new ShapeComplexRotation(new Vector(), new ShapeCircle(2, 40, Shape.Direction.Y_AXIS), new Vector(0, 1, 0));
+            default -> throw new IllegalArgumentException("Unknown shape: " + shapeType);
+        };
+        origin = new Location(null, 100.5, 64, -20.5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    private double nextTime() {
+        step = (step + 1) % TIMER_STEPS;
+        return step * 0.1;
+    }
+
+    @Benchmark
+    public void cachedFrame(Points points, Blackhole blackhole) {
+        double time = nextTime();
+        double[] frame = shape.getFrame(time);
+        if (frame == null) { // Not cached yet, draws the vectors directly like the animators.
+            drawVectors(time, points, blackhole);
+            return;
+        }
+        double originX = origin.getX();
+        double originY = origin.getY();
+        double originZ = origin.getZ();
+        for (int i = 0; i < frame.length; i += 3) {
+            blackhole.consume(originX + frame[i]);
+            blackhole.consume(originY + frame[i + 1]);
+            blackhole.consume(originZ + frame[i + 2]);
+        }
+        points.points += frame.length / 3;
+    }
+
+    @Benchmark
+    public void drawVectors(Points points, Blackhole blackhole) {
+        drawVectors(nextTime(), points, blackhole);
+    }
+
+    private void drawVectors(double time, Points points, Blackhole blackhole) {
+        shape.drawVectors(time, vector -> {
+            origin.add(vector);
+            blackhole.consume(origin.getX());
+            blackhole.consume(origin.getY());
+            blackhole.consume(origin.getZ());
+            origin.subtract(vector);
+            points.points++;
+        });
+    }
+
+    /**
+     * Counts the drawn points, so the results show the points per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Points {
+
+        public long points;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            points = 0;
+        }
+
+    }
+
+}
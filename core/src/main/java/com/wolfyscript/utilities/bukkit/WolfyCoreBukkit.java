@@ -13,6 +13,7 @@ import com.wolfyscript.utilities.bukkit.items.CustomItemBlockData;
 import com.wolfyscript.utilities.bukkit.listeners.EquipListener;
 import com.wolfyscript.utilities.bukkit.listeners.GUIInventoryListener;
 import com.wolfyscript.utilities.bukkit.listeners.PersistentStorageListener;
+import com.wolfyscript.utilities.bukkit.listeners.PlayerEquipmentListener;
 import com.wolfyscript.utilities.bukkit.listeners.PlayerListener;
 import com.wolfyscript.utilities.bukkit.listeners.custom_item.CustomDurabilityListener;
 import com.wolfyscript.utilities.bukkit.listeners.custom_item.CustomItemDataListener;
@@ -46,6 +47,7 @@ import me.wolfyscript.utilities.api.console.Console;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.Action;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.ActionCommand;
+import me.wolfyscript.utilities.api.inventory.custom_items.actions.ActionCommandScheduler;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.ActionParticleAnimation;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.ActionSound;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.Event;
@@ -68,6 +70,7 @@ import me.wolfyscript.utilities.api.inventory.custom_items.meta.EnchantMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.FlagsMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.LoreMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.Meta;
+import me.wolfyscript.utilities.api.inventory.custom_items.meta.NBTTagMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.NameMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.PlayerHeadMeta;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.PotionMeta;
@@ -83,6 +86,7 @@ import me.wolfyscript.utilities.main.WUPlugin;
 import me.wolfyscript.utilities.main.configs.WUConfig;
 import me.wolfyscript.utilities.messages.MessageFactory;
 import me.wolfyscript.utilities.messages.MessageHandler;
+import me.wolfyscript.utilities.util.entity.PlayerEquipment;
 import me.wolfyscript.utilities.util.entity.PlayerUtils;
 import me.wolfyscript.utilities.util.eval.operators.ComparisonOperatorEqual;
 import me.wolfyscript.utilities.util.eval.operators.ComparisonOperatorGreater;
@@ -116,6 +120,7 @@ import me.wolfyscript.utilities.util.json.jackson.serialization.LocationSerializ
 import me.wolfyscript.utilities.util.json.jackson.serialization.PotionEffectSerialization;
 import me.wolfyscript.utilities.util.json.jackson.serialization.PotionEffectTypeSerialization;
 import me.wolfyscript.utilities.util.json.jackson.serialization.VectorSerialization;
+import me.wolfyscript.utilities.util.particles.ParticleScheduler;
 import me.wolfyscript.utilities.util.particles.animators.Animator;
 import me.wolfyscript.utilities.util.particles.animators.AnimatorBasic;
 import me.wolfyscript.utilities.util.particles.animators.AnimatorCircle;
@@ -188,6 +193,7 @@ public final class WolfyCoreBukkit extends WUPlugin {
         this.messageHandler = new MessageHandler(this);
         this.messageFactory = new MessageFactory(this);
         this.compatibilityManager = new CompatibilityManagerBukkit(this);
+        this.persistentStorage = new PersistentStorage(this);
     }
 
     @Override
@@ -247,6 +253,11 @@ public final class WolfyCoreBukkit extends WUPlugin {
 
         FunctionalRecipeGenerator.generateRecipeClasses();
 
+        //Keep the data derived from the registered CustomItems up to date
+        var customItems = getRegistries().getCustomItems();
+        customItems.addChangeListener(key -> APIReference.invalidateLinkedItemTemplates());
+        customItems.addChangeListener(key -> PlayerEquipment.invalidateAll());
+
         //Register custom item data
 
         //Register meta settings providers
@@ -262,6 +273,7 @@ public final class WolfyCoreBukkit extends WUPlugin {
         nbtChecks.register(FlagsMeta.KEY, FlagsMeta.class);
         nbtChecks.register(LoreMeta.KEY, LoreMeta.class);
         nbtChecks.register(NameMeta.KEY, NameMeta.class);
+        nbtChecks.register(NBTTagMeta.KEY, NBTTagMeta.class);
         nbtChecks.register(PlayerHeadMeta.KEY, PlayerHeadMeta.class);
         nbtChecks.register(PotionMeta.KEY, PotionMeta.class);
         nbtChecks.register(RepairCostMeta.KEY, RepairCostMeta.class);
@@ -349,6 +361,7 @@ public final class WolfyCoreBukkit extends WUPlugin {
 
         var customBlockData = getRegistries().getCustomBlockData();
         customBlockData.register(CustomItemBlockData.ID, CustomItemBlockData.class);
+        CustomBlockData.registerCodec(CustomItemBlockData.ID, new CustomItemBlockData.Codec());
 
         KeyedTypeIdResolver.registerTypeRegistry(Meta.class, nbtChecks);
         KeyedTypeIdResolver.registerTypeRegistry(Animator.class, particleAnimators);
@@ -385,6 +398,7 @@ public final class WolfyCoreBukkit extends WUPlugin {
 
             WorldUtils.load();
             PlayerUtils.loadStores();
+            ActionCommandScheduler.start(this);
             registerListeners();
             registerCommands();
 
@@ -418,7 +432,10 @@ public final class WolfyCoreBukkit extends WUPlugin {
             this.adventure = null;
         }
         api.getConfigAPI().saveConfigs();
-        PlayerUtils.saveStores();
+        ActionCommandScheduler.stop();
+        ParticleScheduler.stop();
+        persistentStorage.flush();
+        PlayerUtils.closeStores();
         console.info("Save stored Custom Items");
     }
 
@@ -429,6 +446,7 @@ public final class WolfyCoreBukkit extends WUPlugin {
         Bukkit.getPluginManager().registerEvents(new CustomItemPlayerListener(this), this);
         Bukkit.getPluginManager().registerEvents(new EquipListener(this), this);
         Bukkit.getPluginManager().registerEvents(new PlayerListener(), this);
+        Bukkit.getPluginManager().registerEvents(new PlayerEquipmentListener(), this);
         Bukkit.getPluginManager().registerEvents(new GUIInventoryListener(), this);
         Bukkit.getPluginManager().registerEvents(new PersistentStorageListener(this), this);
         Bukkit.getPluginManager().registerEvents(new CustomItemDataListener(this), this);
@@ -19,7 +19,13 @@
 package com.wolfyscript.utilities.bukkit.commands;
 
 import com.wolfyscript.utilities.bukkit.WolfyCoreBukkit;
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.api.inventory.custom_items.actions.ActionCommandScheduler;
+import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
+import me.wolfyscript.utilities.util.particles.ParticleLOD;
+import me.wolfyscript.utilities.util.particles.ParticleScheduler;
 import me.wolfyscript.utilities.util.version.ServerVersion;
+import net.kyori.adventure.platform.bukkit.BukkitComponentSerializer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -30,7 +36,9 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 public class InfoCommand implements TabExecutor {
 
@@ -42,6 +50,18 @@ public class InfoCommand implements TabExecutor {
 
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("parsers") && sender.hasPermission("wolfyutilities.command.parser_stats")) {
+            sendParserStats(sender);
+            return true;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("commands") && sender.hasPermission("wolfyutilities.command.action_stats")) {
+            sendCommandActionStats(sender);
+            return true;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("particles") && sender.hasPermission("wolfyutilities.command.particle_stats")) {
+            sendParticleStats(sender);
+            return true;
+        }
         if (!(sender instanceof Player)) return true;
         plugin.getWolfyUtilities().getChat().sendMessages((Player) sender, true,
                 Component.text("——————— ", NamedTextColor.GRAY).append(Component.text("WolfyUtilities", NamedTextColor.AQUA, TextDecoration.BOLD)).append(Component.text(" ———————")),
@@ -54,6 +74,68 @@ public class InfoCommand implements TabExecutor {
         return true;
     }
 
+    /**
+     * Sends how often each {@link APIReference.Parser} was called to detect the reference of an item, how often it detected it, and how long it took on average.
+     */
+    private void sendParserStats(CommandSender sender) {
+        List<Component> lines = new ArrayList<>();
+        lines.add(Component.text("(probes, hits, hit rate, avg time)", NamedTextColor.GRAY));
+        for (APIReference.Parser<?> parser : CustomItem.getApiReferenceParsers()) {
+            long probes = parser.getProbeCount();
+            long hits = parser.getHitCount();
+            lines.add(stat(parser.getId(), String.format(Locale.ROOT, "%d, %d, %.1f%%, %.1fµs", probes, hits,
+                    probes == 0 ? 0d : hits * 100d / probes,
+                    probes == 0 ? 0d : parser.getProbeNanos() / 1000d / probes)));
+        }
+        sendStats(sender, "APIReference Parsers", lines);
+    }
+
+    /**
+     * Sends the statistics of the commands dispatched by {@link ActionCommandScheduler}.
+     */
+    private void sendCommandActionStats(CommandSender sender) {
+        sendStats(sender, "Command Actions", List.of(
+                stat("Queue depth", ActionCommandScheduler.getQueueDepth() + " (max " + ActionCommandScheduler.getMaxQueueDepth() + ")"),
+                stat("Submitted", String.valueOf(ActionCommandScheduler.getSubmittedCount())),
+                stat("Dispatched", String.valueOf(ActionCommandScheduler.getDispatchedCount())),
+                stat("Coalesced", String.valueOf(ActionCommandScheduler.getCoalescedCount())),
+                stat("Rate limited", String.valueOf(ActionCommandScheduler.getRateLimitedCount()))
+        ));
+    }
+
+    /**
+     * Sends the amount of running particle animations and effects, and how long the {@link ParticleScheduler} takes to tick them.
+     */
+    private void sendParticleStats(CommandSender sender) {
+        sendStats(sender, "Particles", List.of(
+                stat("Active", String.valueOf(ParticleScheduler.getActiveCount())),
+                stat("Tick time", String.format(Locale.ROOT, "%.2fms (avg %.2fms, budget %.2fms)", ParticleScheduler.getLastTickNanos() / 1e6,
+                        ParticleScheduler.getAverageTickNanos() / 1e6, ParticleScheduler.getTickBudget() / 1e6)),
+                stat("Ticks over budget", String.valueOf(ParticleScheduler.getDeferredTicks())),
+                stat("Frames dropped (LOD)", String.valueOf(ParticleLOD.getDroppedFrames()))
+        ));
+    }
+
+    private static Component stat(String name, String value) {
+        return Component.text(name + ": ", NamedTextColor.GRAY).append(Component.text(value, null, TextDecoration.BOLD));
+    }
+
+    /**
+     * Sends the statistics in the same style as the info message.<br>
+     * Players receive them via the {@link me.wolfyscript.utilities.api.chat.Chat}, while other senders (e.g. the console) receive the legacy text.
+     */
+    private void sendStats(CommandSender sender, String title, List<Component> lines) {
+        List<Component> components = new ArrayList<>(lines.size() + 2);
+        components.add(Component.text("——————— ", NamedTextColor.GRAY).append(Component.text(title, NamedTextColor.AQUA, TextDecoration.BOLD)).append(Component.text(" ———————")));
+        components.addAll(lines);
+        components.add(Component.text("———————————————————————", NamedTextColor.GRAY));
+        if (sender instanceof Player player) {
+            plugin.getWolfyUtilities().getChat().sendMessages(player, true, components.toArray(new Component[0]));
+        } else {
+            components.forEach(component -> sender.sendMessage(BukkitComponentSerializer.legacy().serialize(component)));
+        }
+    }
+
     @Override
     public @Nullable List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String alias, @NotNull String[] args) {
         return null;
@@ -13,6 +13,11 @@ import org.bukkit.event.HandlerList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Called when a BlockStorage drops its items.<br>
+ * When multiple BlockStorages drop their items at the same time, e.g. in an explosion, the drops are passed to the {@link BlockStorageMultiDropItemsEvent} instead.
+ * Listeners that are not registered for that event still receive each drop via this event.
+ */
 public class BlockStorageDropItemsEvent extends Event implements BlockStorageEvent, Cancellable {
 
     private static final HandlerList handlers = new HandlerList();
@@ -0,0 +1,55 @@
+package com.wolfyscript.utilities.bukkit.events.persistent;
+
+import java.util.List;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called once when multiple BlockStorages drop their items at the same time, e.g. when they are destroyed by an explosion.<br>
+ * Each drop is represented by a {@link BlockStorageDropItemsEvent}.<br>
+ * The drops can be manipulated and cancelled separately, or all at once by cancelling this event.<br>
+ * This event replaces the {@link BlockStorageDropItemsEvent} of each block. For compatibility, the drops are still passed to the listeners of that event,
+ * but only to the listeners, that are not registered for this event too. Listeners should handle this event instead.
+ */
+public class BlockStorageMultiDropItemsEvent extends Event implements Cancellable {
+
+    private static final HandlerList handlers = new HandlerList();
+
+    private final List<BlockStorageDropItemsEvent> drops;
+    private boolean cancel;
+
+    public BlockStorageMultiDropItemsEvent(@NotNull List<BlockStorageDropItemsEvent> drops) {
+        this.drops = drops;
+    }
+
+    /**
+     * Gets the drops of each BlockStorage.
+     *
+     * @return The drops of the BlockStorages.
+     */
+    public List<BlockStorageDropItemsEvent> getDrops() {
+        return drops;
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancel;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancel = cancel;
+    }
+}
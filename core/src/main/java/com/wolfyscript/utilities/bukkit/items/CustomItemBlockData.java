@@ -7,6 +7,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.wolfyscript.utilities.bukkit.persistent.world.BlockStorage;
 import com.wolfyscript.utilities.bukkit.persistent.world.ChunkStorage;
 import com.wolfyscript.utilities.bukkit.persistent.world.CustomBlockData;
+import com.wolfyscript.utilities.bukkit.persistent.world.CustomBlockDataCodec;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
@@ -18,7 +20,10 @@ import me.wolfyscript.utilities.util.particles.ParticleUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class CustomItemBlockData extends CustomBlockData {
@@ -28,9 +33,9 @@ public class CustomItemBlockData extends CustomBlockData {
     @JsonIgnore
     private final WolfyUtilCore core;
     @JsonIgnore
-    private final ChunkStorage chunkStorage;
+    private ChunkStorage chunkStorage;
     @JsonIgnore
-    private final Vector pos;
+    private Vector pos;
     @JsonIgnore
     private UUID particleAnimationID;
 
@@ -106,6 +111,17 @@ public class CustomItemBlockData extends CustomBlockData {
         ParticleUtils.stopAnimation(particleAnimationID);
     }
 
+    /**
+     * Keeps the running particle animation and moves it along with the block.
+     */
+    @Override
+    public CustomItemBlockData onMove(BlockStorage storage, Vector previousPos) {
+        this.chunkStorage = storage.getChunkStorage();
+        this.pos = storage.getPos();
+        chunkStorage.getChunk().ifPresent(chunk -> ParticleUtils.moveAnimation(particleAnimationID, chunk.getWorld().getBlockAt(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ())));
+        return this;
+    }
+
     @Override
     public CustomItemBlockData copy() {
         return new CustomItemBlockData(this);
@@ -115,4 +131,38 @@ public class CustomItemBlockData extends CustomBlockData {
     public CustomItemBlockData copyTo(BlockStorage storage) {
         return new CustomItemBlockData(core, storage.getChunkStorage(), storage.getPos(), item);
     }
+
+    /**
+     * Stores the item key directly in the NBT, so no Jackson serialization is required to save and load the data.
+     */
+    public static class Codec implements CustomBlockDataCodec {
+
+        private static final org.bukkit.NamespacedKey ITEM_KEY = new org.bukkit.NamespacedKey("wolfyutils", "item");
+
+        @Override
+        public boolean canDecode(@NotNull PersistentDataContainer container, @NotNull org.bukkit.NamespacedKey key) {
+            return container.has(key, PersistentDataType.TAG_CONTAINER);
+        }
+
+        @Override
+        public void encode(@NotNull Context context, @NotNull CustomBlockData data, @NotNull PersistentDataContainer container, @NotNull org.bukkit.NamespacedKey key) throws IOException {
+            if (!(data instanceof CustomItemBlockData itemData)) {
+                throw new IOException("Cannot encode data of type " + data.getClass().getName() + " as custom item data!");
+            }
+            PersistentDataContainer itemContainer = container.getAdapterContext().newPersistentDataContainer();
+            itemContainer.set(ITEM_KEY, PersistentDataType.STRING, itemData.getItem().toString());
+            container.set(key, PersistentDataType.TAG_CONTAINER, itemContainer);
+        }
+
+        @Override
+        public @Nullable CustomItemBlockData decode(@NotNull Context context, @NotNull PersistentDataContainer container, @NotNull org.bukkit.NamespacedKey key) throws IOException {
+            PersistentDataContainer itemContainer = container.get(key, PersistentDataType.TAG_CONTAINER);
+            if (itemContainer == null) return null;
+            NamespacedKey item = NamespacedKey.of(itemContainer.get(ITEM_KEY, PersistentDataType.STRING));
+            if (item == null) {
+                throw new IOException("Missing item of custom item data!");
+            }
+            return new CustomItemBlockData(context.core(), context.chunkStorage(), context.pos(), item);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.api.inventory.custom_items.ArmorType;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.main.WUPlugin;
+import me.wolfyscript.utilities.util.entity.PlayerUtils;
 import me.wolfyscript.utilities.util.events.ArmorEquipEvent;
 import me.wolfyscript.utilities.util.events.EventFactory;
 import me.wolfyscript.utilities.util.inventory.InventoryUtils;
@@ -47,12 +48,11 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.BoundingBox;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
 
 public class EquipListener implements Listener {
 
@@ -81,11 +81,10 @@ public class EquipListener implements Listener {
                 var customCurrentItem = CustomItem.getByItemStack(currentItem);
                 final ArmorType type;
                 if (!ItemUtils.isAirOrNull(customCurrentItem) && customCurrentItem.hasEquipmentSlot()) {
-                    Optional<ArmorType> optionalArmorType = Stream.of(ArmorType.values()).filter(t -> ItemUtils.isAirOrNull(inv.getItem(t.getSlot())) && customCurrentItem.hasEquipmentSlot(t.getEquipmentSlot())).findFirst();
-                    if (optionalArmorType.isEmpty()) {
+                    type = findEmptyArmorSlot(inv, customCurrentItem);
+                    if (type == null) {
                         return;
                     }
-                    type = optionalArmorType.get();
                 } else {
                     type = ArmorType.matchType(currentItem);
                 }
@@ -149,7 +148,7 @@ public class EquipListener implements Listener {
                     return;
                 }
             }
-            var customItem = CustomItem.getByItemStack(e.getItem());
+            var customItem = e.getHand() != null ? PlayerUtils.getEquipment(player).resolve(e.getHand(), e.getItem()) : CustomItem.getByItemStack(e.getItem());
             var armorType = ArmorType.matchType(e.getItem(), customItem, player.getInventory());
             if (armorType != null) {
                 var equipEvent = EventFactory.createArmorEquipEvent(player, ArmorEquipEvent.EquipMethod.HOTBAR, armorType, null, e.getItem(), null, customItem);
@@ -180,11 +179,12 @@ public class EquipListener implements Listener {
         if (!event.getKeepInventory()) {
             var armorContents = player.getInventory().getArmorContents();
             var armorTypes = ArmorType.values();
+            var equipment = PlayerUtils.getEquipment(player);
             for (int i = 0; i < armorContents.length; i++) {
                 ItemStack stack = armorContents[i];
                 if (!ItemUtils.isAirOrNull(stack)) {
-                    var customItem = CustomItem.getByItemStack(stack);
                     ArmorType type = armorTypes[armorContents.length - 1 - i];
+                    var customItem = equipment.resolve(type.getEquipmentSlot(), stack);
                     EventFactory.createArmorEquipEvent(player, ArmorEquipEvent.EquipMethod.DEATH, type, stack, null, customItem, null);
                 }
             }
@@ -196,7 +196,7 @@ public class EquipListener implements Listener {
         ArmorType type = ArmorType.matchType(e.getBrokenItem());
         if (type != null) {
             var player = e.getPlayer();
-            var customItem = CustomItem.getByItemStack(e.getBrokenItem());
+            var customItem = PlayerUtils.getEquipment(player).resolve(type.getEquipmentSlot(), e.getBrokenItem());
             var armorEquipEvent = EventFactory.createArmorEquipEvent(player, ArmorEquipEvent.EquipMethod.BROKE, type, e.getBrokenItem(), null, customItem, null);
             if (armorEquipEvent.isCancelled()) {
                 ItemStack stack = armorEquipEvent.getOldArmorPiece().clone();
@@ -276,6 +276,18 @@ public class EquipListener implements Listener {
         }
     }
 
+    /**
+     * Finds the first empty armor slot, that the custom item can be equipped to.
+     */
+    private static ArmorType findEmptyArmorSlot(Inventory inventory, CustomItem customItem) {
+        for (ArmorType type : ArmorType.values()) {
+            if (ItemUtils.isAirOrNull(inventory.getItem(type.getSlot())) && customItem.hasEquipmentSlot(type.getEquipmentSlot())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
     @EventHandler
     public void onEquipTest(ArmorEquipEvent event) {
         /*
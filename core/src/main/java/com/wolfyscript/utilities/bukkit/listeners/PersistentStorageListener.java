@@ -3,6 +3,7 @@ package com.wolfyscript.utilities.bukkit.listeners;
 import com.wolfyscript.utilities.bukkit.WolfyCoreBukkit;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageBreakEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageDropItemsEvent;
+import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageMultiDropItemsEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageMultiPlaceEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStoragePlaceEvent;
 import com.wolfyscript.utilities.bukkit.persistent.PersistentStorage;
@@ -11,9 +12,15 @@ import com.wolfyscript.utilities.bukkit.persistent.world.ChunkStorage;
 import com.wolfyscript.utilities.bukkit.persistent.world.WorldStorage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
@@ -26,6 +33,7 @@ import org.bukkit.block.data.Bisected;
 import org.bukkit.block.data.type.Bed;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
+import org.bukkit.event.EventException;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -48,6 +56,8 @@ import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldSaveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
+import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.util.Vector;
 
 public class PersistentStorageListener implements Listener {
 
@@ -71,16 +81,19 @@ public class PersistentStorageListener implements Listener {
     private void onChunkUnload(ChunkUnloadEvent event) {
         Chunk chunk = event.getChunk();
         WorldStorage worldStorage = persistentStorage.getOrCreateWorldStorage(event.getWorld());
-        ChunkStorage chunkStorage = worldStorage.getOrCreateChunkStorage(chunk.getX(), chunk.getZ());
-        chunkStorage.getStoredBlocks().forEach((vector, store) -> {
-            store.onUnload();
+        worldStorage.getChunkStorage(chunk.getX(), chunk.getZ()).ifPresent(chunkStorage -> {
+            chunkStorage.cancelPendingLoad(); // Blocks that were not committed yet, were never loaded, so there is nothing to unload.
+            chunkStorage.getStoredBlocks().forEach((vector, store) -> {
+                store.onUnload();
+            });
+            worldStorage.unloadChunk(chunkStorage);
         });
-        worldStorage.unloadChunk(chunkStorage);
     }
 
     @EventHandler
     private void onSave(WorldSaveEvent event) {
         World world = event.getWorld();
+        persistentStorage.getOrCreateWorldStorage(world).flush();
     }
 
     /**
@@ -96,10 +109,15 @@ public class PersistentStorageListener implements Listener {
         }
     }
 
+    /**
+     * Loads the stored blocks of the chunk.<br>
+     * The data is only copied here, while the decoding happens asynchronously and the blocks are loaded on the next tick.<br>
+     * Chunks without stored blocks are skipped, so no ChunkStorage is created for them.
+     */
     private void initOrUpdateChunk(Chunk chunk) {
+        if (!ChunkStorage.hasPersistentBlocks(chunk.getPersistentDataContainer())) return; // Only chunks with stored blocks need a storage.
         ChunkStorage chunkStorage = persistentStorage.getOrCreateWorldStorage(chunk.getWorld()).getOrCreateChunkStorage(chunk.getX(), chunk.getZ());
-        chunkStorage.loadBlocksIntoCache();
-        chunkStorage.getStoredBlocks().forEach((vector, blockStorage) -> blockStorage.onLoad());
+        chunkStorage.loadBlocksIntoCacheAsync();
     }
 
     /* ******************** *
@@ -145,17 +163,13 @@ public class PersistentStorageListener implements Listener {
     /**
      * Called when liquid flows or when a Dragon Egg teleports.
      * This Listener only listens for the Dragon Egg.
-     * The BlockStorage is copied from the original position to the new postion.
+     * The BlockStorage is moved from the original position to the new position.
      */
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onBlockFromTo(BlockFromToEvent event) {
         var block = event.getBlock();
         var worldStore = persistentStorage.getOrCreateWorldStorage(event.getBlock().getWorld());
-        worldStore.getBlock(block.getLocation()).ifPresent(store -> {
-            Location loc = event.getToBlock().getLocation();
-            worldStore.removeBlock(block.getLocation());
-            store.copyToOtherBlockStorage(worldStore.getOrCreateAndSetBlockStorage(loc));
-        });
+        worldStore.moveBlock(block.getLocation(), event.getToBlock().getLocation());
     }
 
     /**
@@ -175,12 +189,9 @@ public class PersistentStorageListener implements Listener {
     }
 
     private void updatePistonBlocks(World world, List<Block> blocks, BlockFace direction) {
+        if (blocks.isEmpty()) return;
         var worldStorage = persistentStorage.getOrCreateWorldStorage(world);
-        blocks.forEach(block -> worldStorage.getBlock(block.getLocation()).ifPresent(store -> {
-            Location moveTo = block.getRelative(direction).getLocation();
-            worldStorage.removeBlock(block.getLocation());
-            store.copyToOtherBlockStorage(worldStorage.getOrCreateAndSetBlockStorage(moveTo));
-        }));
+        worldStorage.moveBlocks(blocks.stream().map(block -> new Vector(block.getX(), block.getY(), block.getZ())).toList(), direction);
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
@@ -214,44 +225,80 @@ public class PersistentStorageListener implements Listener {
         event.setCancelled(handleExplodedBlockStorages(worldStorage, event.blockList()));
     }
 
+    /**
+     * Removes the BlockStorages of the exploded blocks in bulk and drops their items.<br>
+     * If none of the blocks were stored, the explosion is left to the server.
+     * Otherwise, all the blocks are removed and dropped here, and a single {@link BlockStorageMultiDropItemsEvent} is called for the stored blocks.
+     *
+     * @return True if the explosion was handled and the event should be cancelled; otherwise false.
+     */
     private boolean handleExplodedBlockStorages(WorldStorage worldStorage, List<Block> blocks) {
-        boolean cancel = blocks.stream().anyMatch(block -> worldStorage.removeBlock(block.getLocation()).isPresent());
-        if (cancel) {
-            // Only use the custom behaviour if a block storage was included in the explosion
-            Iterator<Block> blockIterator = blocks.iterator();
-            while (blockIterator.hasNext()) {
-                Block block = blockIterator.next();
-                Location location = block.getLocation();
-                blockIterator.remove();
-                Collection<ItemStack> itemStacks = block.getDrops();
-                BlockState state = block.getState();
-                block.setType(Material.AIR);
-                // Handle custom block storage drops, if available
-                worldStorage.getOrCreateChunkStorage(location).getBlock(location).ifPresentOrElse(storage -> {
-                    World world = location.getWorld();
-                    if (world != null) {
-                        List<Item> itemDrops = itemStacks.stream().map(itemStack -> world.dropItemNaturally(location, itemStack)).toList();
-                        // Call the drop event for plugins to manipulate the drops
-                        var blockStoreDropItemsEvent = new BlockStorageDropItemsEvent(block, state, storage, null, new ArrayList<>(itemDrops));
-                        Bukkit.getPluginManager().callEvent(blockStoreDropItemsEvent);
-                        List<Item> eventItems = blockStoreDropItemsEvent.getItems();
-                        if (blockStoreDropItemsEvent.isCancelled()) {
-                            blockStoreDropItemsEvent.getItems().clear();
-                        }
-                        //Remove the items that were removed from the list
-                        itemDrops.stream().filter(item -> !eventItems.contains(item)).forEach(Entity::remove);
-                    }
-                }, () -> {
-                    // Otherwise just drop the items
-                    World world = location.getWorld();
-                    if (world != null) {
-                        itemStacks.forEach(itemStack -> world.dropItemNaturally(location, itemStack));
-                    }
-                });
+        Map<Block, BlockStorage> removedStorages = worldStorage.removeBlocks(blocks);
+        if (removedStorages.isEmpty()) return false;
+        // Only use the custom behaviour if a block storage was included in the explosion
+        List<BlockStorageDropItemsEvent> drops = new ArrayList<>(removedStorages.size());
+        Map<BlockStorageDropItemsEvent, List<Item>> droppedItems = new HashMap<>();
+        Iterator<Block> blockIterator = blocks.iterator();
+        while (blockIterator.hasNext()) {
+            Block block = blockIterator.next();
+            Location location = block.getLocation();
+            blockIterator.remove();
+            Collection<ItemStack> itemStacks = block.getDrops();
+            BlockState state = block.getState();
+            block.setType(Material.AIR);
+            World world = location.getWorld();
+            if (world == null) continue;
+            BlockStorage storage = removedStorages.get(block);
+            if (storage != null) {
+                // Collect the custom block storage drops, so plugins can manipulate them all at once
+                List<Item> itemDrops = itemStacks.stream().map(itemStack -> world.dropItemNaturally(location, itemStack)).toList();
+                var drop = new BlockStorageDropItemsEvent(block, state, storage, null, new ArrayList<>(itemDrops));
+                drops.add(drop);
+                droppedItems.put(drop, itemDrops);
+            } else {
+                // Otherwise just drop the items
+                itemStacks.forEach(itemStack -> world.dropItemNaturally(location, itemStack));
+            }
+        }
+        if (drops.isEmpty()) return true;
+        var multiDropItemsEvent = new BlockStorageMultiDropItemsEvent(drops);
+        Bukkit.getPluginManager().callEvent(multiDropItemsEvent);
+        if (!multiDropItemsEvent.isCancelled()) {
+            callSingleDropListeners(drops);
+        }
+        droppedItems.forEach((drop, itemDrops) -> {
+            List<Item> eventItems = drop.getItems();
+            if (multiDropItemsEvent.isCancelled() || drop.isCancelled()) {
+                eventItems.clear();
+            }
+            //Remove the items that were removed from the list
+            itemDrops.stream().filter(item -> !eventItems.contains(item)).forEach(Entity::remove);
+        });
+        return true;
+    }
+
+    /**
+     * Passes the drops to the listeners of the {@link BlockStorageDropItemsEvent}, that do not listen to the {@link BlockStorageMultiDropItemsEvent}.<br>
+     * Listeners that handle both events already received the drops via the multi event, so they are skipped to not handle the drops twice.
+     *
+     * @param drops The drops, that were passed to the multi event.
+     */
+    private void callSingleDropListeners(List<BlockStorageDropItemsEvent> drops) {
+        RegisteredListener[] multiListeners = BlockStorageMultiDropItemsEvent.getHandlerList().getRegisteredListeners();
+        Set<Listener> handlesMultiDrops = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (RegisteredListener registration : multiListeners) {
+            handlesMultiDrops.add(registration.getListener());
+        }
+        for (RegisteredListener registration : BlockStorageDropItemsEvent.getHandlerList().getRegisteredListeners()) {
+            if (handlesMultiDrops.contains(registration.getListener()) || !registration.getPlugin().isEnabled()) continue;
+            for (BlockStorageDropItemsEvent drop : drops) {
+                try {
+                    registration.callEvent(drop); // Skips cancelled drops, unless the listener wants to receive them.
+                } catch (EventException ex) {
+                    core.getLogger().log(Level.SEVERE, "Could not pass BlockStorageDropItemsEvent to " + registration.getPlugin().getName(), ex.getCause() != null ? ex.getCause() : ex);
+                }
             }
-            return true;
         }
-        return false;
     }
 
     private void removeMultiBlockItems(Block block) {
@@ -311,9 +358,9 @@ public class PersistentStorageListener implements Listener {
 
     private void removeIfAvailable(Block block) {
         var worldStorage = persistentStorage.getOrCreateWorldStorage(block.getWorld());
-        worldStorage.getBlock(block.getLocation()).ifPresent(customItemStore -> {
-            worldStorage.removeBlock(block.getLocation());
-        });
+        if (worldStorage.isBlockStored(block.getX(), block.getY(), block.getZ())) {
+            worldStorage.removeBlock(block.getX(), block.getY(), block.getZ());
+        }
     }
 
 
@@ -20,14 +20,46 @@ package com.wolfyscript.utilities.bukkit.listeners;
 
 import me.wolfyscript.utilities.util.entity.PlayerUtils;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 public class PlayerListener implements Listener {
 
+    /**
+     * Loads the store of the player in the background, while the player is logging in.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            PlayerUtils.prefetchStore(event.getUniqueId());
+        } else {
+            PlayerUtils.discardPrefetchedStore(event.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            PlayerUtils.discardPrefetchedStore(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Caches the prefetched store of the player. In case the store is still loading, this waits for it to complete.
+     */
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
         PlayerUtils.getStore(event.getPlayer());
     }
 
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        PlayerUtils.discardPrefetchedStore(event.getPlayer().getUniqueId());
+        PlayerUtils.saveStoreAsync(event.getPlayer().getUniqueId());
+    }
+
 }
@@ -2,6 +2,7 @@ package com.wolfyscript.utilities.bukkit.listeners.custom_item;
 
 import com.wolfyscript.utilities.bukkit.WolfyCoreBukkit;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageDropItemsEvent;
+import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageMultiDropItemsEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageBreakEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStorageMultiPlaceEvent;
 import com.wolfyscript.utilities.bukkit.events.persistent.BlockStoragePlaceEvent;
@@ -55,6 +56,11 @@ public class CustomItemDataListener implements Listener {
         });
     }
 
+    @EventHandler
+    public void onMultiDropItems(BlockStorageMultiDropItemsEvent event) {
+        event.getDrops().forEach(this::onDropItems);
+    }
+
     @EventHandler
     public void onPlaceBlock(BlockStoragePlaceEvent event) {
         var customItem = CustomItem.getByItemStack(event.getItemInHand());
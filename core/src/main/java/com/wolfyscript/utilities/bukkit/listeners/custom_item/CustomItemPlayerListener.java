@@ -55,7 +55,9 @@ public class CustomItemPlayerListener implements Listener {
     }
 
     private <T extends PlayerEvent> void callEvent(CustomItem item, NamespacedKey eventKey, T bukkitEvent) {
-        item.getActionSettings().callEvent(eventKey, new DataPlayerEvent<>(bukkitEvent, bukkitEvent.getPlayer(), item));
+        var actionSettings = item.getActionSettings();
+        if (!actionSettings.hasEvents(eventKey)) return; // Most items don't have any events, so there is no need to construct the data.
+        actionSettings.callEvent(eventKey, new DataPlayerEvent<>(bukkitEvent, bukkitEvent.getPlayer(), item));
     }
 
     @EventHandler
@@ -18,7 +18,6 @@
 
 package com.wolfyscript.utilities.bukkit.listeners.custom_item;
 
-import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.entity.PlayerUtils;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
@@ -36,7 +35,13 @@ public class CustomParticleListener implements Listener {
         var player = event.getPlayer();
         var playerInventory = player.getInventory();
         var newItem = playerInventory.getItem(event.getNewSlot());
-        var item = CustomItem.getByItemStack(newItem);
+        var equipment = PlayerUtils.getEquipment(player);
+        var previous = equipment.get(EquipmentSlot.HAND);
+        var item = equipment.resolve(EquipmentSlot.HAND, newItem);
+        equipment.set(EquipmentSlot.HAND, newItem, item);
+        if (item != null && item == previous && PlayerUtils.hasActiveItemEffects(player, EquipmentSlot.HAND)) {
+            return; // Switched between the same items, so the effect keeps running.
+        }
         PlayerUtils.stopActiveParticleEffect(player, EquipmentSlot.HAND);
         if (item != null) {
             item.getParticleContent().spawn(player, EquipmentSlot.HAND);
@@ -48,14 +53,18 @@ public class CustomParticleListener implements Listener {
         var player = event.getPlayer();
         PlayerUtils.stopActiveParticleEffect(player, EquipmentSlot.HAND);
         PlayerUtils.stopActiveParticleEffect(player, EquipmentSlot.OFF_HAND);
-        var mainHand = CustomItem.getByItemStack(event.getMainHandItem());
+        var equipment = PlayerUtils.getEquipment(player);
+        equipment.swapHands(); // The items were already resolved, so they only need to be swapped.
+        var mainHand = equipment.resolve(EquipmentSlot.HAND, event.getMainHandItem());
         if (mainHand != null) {
             mainHand.getParticleContent().spawn(player, EquipmentSlot.HAND);
         }
-        var offHand = CustomItem.getByItemStack(event.getOffHandItem());
+        var offHand = equipment.resolve(EquipmentSlot.OFF_HAND, event.getOffHandItem());
         if (offHand != null) {
             offHand.getParticleContent().spawn(player, EquipmentSlot.OFF_HAND);
         }
+        equipment.set(EquipmentSlot.HAND, event.getMainHandItem(), mainHand);
+        equipment.set(EquipmentSlot.OFF_HAND, event.getOffHandItem(), offHand);
     }
 
     @EventHandler
@@ -65,6 +74,9 @@ public class CustomParticleListener implements Listener {
 
         if (currentItem.getType().equals(Material.AIR) || currentItem.getAmount() <= 0) {
             PlayerUtils.stopActiveParticleEffect(player, EquipmentSlot.HAND);
+            PlayerUtils.getEquipment(player).set(EquipmentSlot.HAND, null, null);
+        } else {
+            PlayerUtils.getEquipment(player).invalidate();
         }
     }
 
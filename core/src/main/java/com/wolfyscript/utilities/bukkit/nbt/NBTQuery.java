@@ -23,6 +23,7 @@
 package com.wolfyscript.utilities.bukkit.nbt;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.wolfyscript.utilities.common.WolfyUtils;
 import de.tr7zw.changeme.nbtapi.NBTCompound;
@@ -38,6 +39,7 @@ import java.util.stream.Collectors;
 
 public class NBTQuery {
 
+    @JsonValue
     private final Map<String, QueryNode<?>> nodes;
 
     @JsonCreator
@@ -0,0 +1,35 @@
+package com.wolfyscript.utilities.bukkit.nms.fallback;
+
+import de.tr7zw.changeme.nbtapi.NBTCompound;
+import de.tr7zw.changeme.nbtapi.NBTItem;
+import me.wolfyscript.utilities.api.nms.ItemDataUtil;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads the data using the Bukkit API and the NBT-API, which copy the item or its {@link ItemMeta}.<br>
+ * The NMS implementations fall back to this for items, that they cannot read directly.
+ */
+public class FallbackItemDataUtilImpl extends ItemDataUtil {
+
+    protected FallbackItemDataUtilImpl(NMSUtil nmsUtil) {
+        super(nmsUtil);
+    }
+
+    @Override
+    public @Nullable String getPersistentString(ItemStack itemStack, NamespacedKey key) {
+        if (!itemStack.hasItemMeta()) return null;
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        return itemMeta == null ? null : itemMeta.getPersistentDataContainer().get(key, PersistentDataType.STRING);
+    }
+
+    @Override
+    public @Nullable NBTCompound getNBTCompound(@Nullable ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType().isAir() || itemStack.getAmount() <= 0) return null;
+        return new NBTItem(itemStack);
+    }
+}
@@ -24,6 +24,8 @@ public class FallbackNMSEntry extends NMSUtil {
     public FallbackNMSEntry(WolfyUtilities wolfyUtilities) {
         super(wolfyUtilities);
         this.inventoryUtil = new FallbackInventoryUtilImpl(this);
+        this.networkUtil = new FallbackNetworkUtilImpl(this);
+        this.itemDataUtil = new FallbackItemDataUtilImpl(this);
     }
 
     @Override
@@ -51,8 +53,11 @@ public class FallbackNMSEntry extends NMSUtil {
         throw new NotImplementedException("RecipeUtil is not yet implement for " + ServerVersion.getVersion());
     }
 
+    /**
+     * Only provides the Bukkit fallback of the particle batches. The buffers are not implemented.
+     */
     @Override
     public NetworkUtil getNetworkUtil() {
-        throw new NotImplementedException("NetworkUtil is not yet implement for " + ServerVersion.getVersion());
+        return networkUtil;
     }
 }
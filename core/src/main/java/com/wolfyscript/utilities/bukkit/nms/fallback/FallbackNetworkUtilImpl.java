@@ -0,0 +1,36 @@
+package com.wolfyscript.utilities.bukkit.nms.fallback;
+
+import io.netty.buffer.ByteBuf;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
+import me.wolfyscript.utilities.api.nms.NetworkUtil;
+import me.wolfyscript.utilities.api.nms.network.MCByteBuf;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
+import me.wolfyscript.utilities.util.version.ServerVersion;
+import org.apache.commons.lang3.NotImplementedException;
+import org.bukkit.Particle;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Only provides the Bukkit fallback of the {@link me.wolfyscript.utilities.api.nms.network.ParticleBatch}.
+ */
+public class FallbackNetworkUtilImpl extends NetworkUtil {
+
+    protected FallbackNetworkUtilImpl(NMSUtil nmsUtil) {
+        super(nmsUtil);
+    }
+
+    @Override
+    public MCByteBuf buffer(ByteBuf byteBuf) {
+        throw new NotImplementedException("MCByteBuf is not yet implement for " + ServerVersion.getVersion());
+    }
+
+    @Override
+    public MCByteBuf buffer() {
+        throw new NotImplementedException("MCByteBuf is not yet implement for " + ServerVersion.getVersion());
+    }
+
+    @Override
+    public ParticleBatch createParticleBatch(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data) {
+        return new FallbackParticleBatch(particle, count, offsetX, offsetY, offsetZ, extra, data);
+    }
+}
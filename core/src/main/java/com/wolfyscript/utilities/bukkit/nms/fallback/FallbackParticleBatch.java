@@ -0,0 +1,65 @@
+package com.wolfyscript.utilities.bukkit.nms.fallback;
+
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Used when there is no NMS implementation of the {@link ParticleBatch} for the server Minecraft version.<br>
+ * Sends the points using the Bukkit API, one call per point and player.
+ */
+public class FallbackParticleBatch implements ParticleBatch {
+
+    private final Particle particle;
+    private final int count;
+    private final double offsetX;
+    private final double offsetY;
+    private final double offsetZ;
+    private final double extra;
+    private final Object data;
+    private double[] points = new double[48];
+    private int size = 0;
+
+    public FallbackParticleBatch(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        this.particle = particle;
+        this.count = count;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.offsetZ = offsetZ;
+        this.extra = extra;
+        this.data = data;
+    }
+
+    @Override
+    public void add(double x, double y, double z) {
+        if (size + 3 > points.length) {
+            points = Arrays.copyOf(points, points.length * 2);
+        }
+        points[size++] = x;
+        points[size++] = y;
+        points[size++] = z;
+    }
+
+    @Override
+    public int size() {
+        return size / 3;
+    }
+
+    @Override
+    public void send(Collection<? extends Player> viewers, int step) {
+        int stride = Math.max(1, step) * 3;
+        for (Player viewer : viewers) {
+            for (int i = 0; i < size; i += stride) {
+                viewer.spawnParticle(particle, points[i], points[i + 1], points[i + 2], count, offsetX, offsetY, offsetZ, extra, data);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
@@ -6,14 +6,21 @@ import com.wolfyscript.utilities.bukkit.persistent.world.WorldStorage;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
 import org.bukkit.World;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Manages the persistent storage of worlds, chunks and blocks.<br>
+ * <br>
+ * <b>Threading:</b><br>
+ * Stored blocks can be read from any thread, e.g. by async protection or logging plugins.
+ * Any modification must happen on the main thread. See {@link com.wolfyscript.utilities.bukkit.persistent.world.ChunkStorage} for the details.
+ */
 public class PersistentStorage {
 
-    private final Map<UUID, WorldStorage> WORLD_STORAGE = new HashMap<>();
+    private final Map<UUID, WorldStorage> WORLD_STORAGE = new ConcurrentHashMap<>();
     private final WolfyUtilCore core;
 
     public PersistentStorage(WolfyUtilCore core) {
@@ -25,6 +32,13 @@ public class PersistentStorage {
         return WORLD_STORAGE.computeIfAbsent(world.getUID(), uuid -> new WorldStorage(core, uuid));
     }
 
+    /**
+     * Writes the pending changes of all worlds to the PersistentDataContainers of the chunks.
+     */
+    public void flush() {
+        WORLD_STORAGE.values().forEach(WorldStorage::flush);
+    }
+
     public WolfyUtilCore getCore() {
         return core;
     }
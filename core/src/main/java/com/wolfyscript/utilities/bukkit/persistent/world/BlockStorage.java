@@ -1,14 +1,12 @@
 package com.wolfyscript.utilities.bukkit.persistent.world;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.InjectableValues;
+import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.util.NamespacedKey;
-import me.wolfyscript.utilities.util.json.jackson.JacksonUtil;
 import org.bukkit.persistence.PersistentDataAdapterContext;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -19,12 +17,16 @@ public class BlockStorage {
 
     private static final org.bukkit.NamespacedKey DATA_KEY = new org.bukkit.NamespacedKey("wolfyutils", "data");
 
-    private final Vector pos;
-    private final ChunkStorage chunkStorage;
+    private volatile Vector pos; // Changes when the block is moved, see #setPosition(ChunkStorage, Vector)
+    private volatile ChunkStorage chunkStorage;
     private final WolfyUtilCore core;
     private final PersistentDataContainer persistentContainer;
 
-    private final Map<NamespacedKey, CustomBlockData> data = new HashMap<>();
+    private final Map<NamespacedKey, CustomBlockData> data = new ConcurrentHashMap<>(); // Read by async lookups, see ChunkStorage
+    /**
+     * Set when data was loaded using a legacy format, so it needs to be saved again in the current format.
+     */
+    private boolean requiresMigration = false;
 
     public BlockStorage(ChunkStorage chunkStorage, Vector pos, PersistentDataContainer persistentContainer) {
         this.chunkStorage = chunkStorage;
@@ -57,6 +59,27 @@ public class BlockStorage {
         data.values().forEach(CustomBlockData::onLoad);
     }
 
+    /**
+     * Calls the move callback of the data, after the block was moved from the previous position.
+     *
+     * @param previousPos The previous position of the block.
+     * @see CustomBlockData#onMove(BlockStorage, Vector)
+     */
+    public void onMove(Vector previousPos) {
+        data.replaceAll((key, blockData) -> blockData.onMove(this, previousPos));
+    }
+
+    /**
+     * Changes the position of this BlockStorage. Only used by the ChunkStorage when moving blocks.
+     *
+     * @param chunkStorage The ChunkStorage of the new position.
+     * @param pos          The new position.
+     */
+    void setPosition(ChunkStorage chunkStorage, Vector pos) {
+        this.chunkStorage = chunkStorage;
+        this.pos = pos;
+    }
+
     public void addOrSetData(CustomBlockData blockData) {
         if (blockData != null) {
             var dataTypeRegistry = core.getRegistries().getCustomBlockData();
@@ -87,34 +110,39 @@ public class BlockStorage {
         return persistentContainer.get(DATA_KEY, PersistentDataType.TAG_CONTAINER);
     }
 
+    boolean requiresMigration() {
+        return requiresMigration;
+    }
+
     private void saveToPersistent() {
-        var objectMapper = core.getWolfyUtils().getJacksonMapperUtil().getGlobalMapper();
+        var context = new CustomBlockDataCodec.Context(core, chunkStorage, pos);
         var dataPersistent = getPersistentData();
         for (Map.Entry<NamespacedKey, CustomBlockData> entry : data.entrySet()) {
             try {
-                dataPersistent.set(entry.getKey().bukkit(), PersistentDataType.STRING, objectMapper.writeValueAsString(entry.getValue()));
-            } catch (JsonProcessingException e) {
+                CustomBlockData.getCodec(entry.getKey()).encode(context, entry.getValue(), dataPersistent, entry.getKey().bukkit());
+            } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
         persistentContainer.set(DATA_KEY, PersistentDataType.TAG_CONTAINER, dataPersistent);
+        requiresMigration = false;
     }
 
     private void loadFromPersistent(ChunkStorage chunkStorage) {
-        var dataTypeRegistry = core.getRegistries().getCustomBlockData();
-        var objectMapper = core.getWolfyUtils().getJacksonMapperUtil().getGlobalMapper();
+        var context = new CustomBlockDataCodec.Context(core, chunkStorage, pos);
         var dataPersistent = getPersistentData();
         for (org.bukkit.NamespacedKey key : dataPersistent.getKeys()) {
             NamespacedKey wuKey = NamespacedKey.fromBukkit(key);
-            String customDataString = dataPersistent.get(key, PersistentDataType.STRING);
+            var codec = CustomBlockData.getCodec(wuKey);
+            if (!codec.canDecode(dataPersistent, key)) {
+                // The data was saved in another format, e.g. as Json String before codecs were introduced.
+                codec = CustomBlockDataCodec.JSON;
+                requiresMigration = true;
+            }
             CustomBlockData blockData = null;
             try {
-                blockData = objectMapper.reader(new InjectableValues.Std()
-                        .addValue(WolfyUtilCore.class, core)
-                        .addValue(ChunkStorage.class, chunkStorage)
-                        .addValue(Vector.class, pos)
-                ).forType(CustomBlockData.class).readValue(customDataString);
-            } catch (JsonProcessingException e) {
+                blockData = codec.decode(context, dataPersistent, key);
+            } catch (IOException e) {
                 core.getLogger().severe("Failed to load custom block data \"" + key + "\" at pos " + pos);
                 e.printStackTrace();
             }
@@ -124,6 +152,21 @@ public class BlockStorage {
         }
     }
 
+    /**
+     * Creates a new BlockStorage and decodes its data from the specified persistent container.<br>
+     * This does not access the world or chunk, so it can be called asynchronously on a container that is detached from the chunk.
+     *
+     * @param chunkStorage The ChunkStorage the block belongs to.
+     * @param pos          The position of the block.
+     * @param container    The persistent container of the block.
+     * @return The new BlockStorage with the decoded data.
+     */
+    static BlockStorage load(ChunkStorage chunkStorage, Vector pos, PersistentDataContainer container) {
+        var blockStorage = new BlockStorage(chunkStorage, pos, container);
+        blockStorage.loadFromPersistent(chunkStorage);
+        return blockStorage;
+    }
+
     public void copyToOtherBlockStorage(BlockStorage storage) {
         data.values().forEach(customBlockData -> {
             CustomBlockData copy = customBlockData.copyTo(storage);
@@ -164,9 +207,7 @@ public class BlockStorage {
         @NotNull
         @Override
         public BlockStorage fromPrimitive(@NotNull PersistentDataContainer data, @NotNull PersistentDataAdapterContext context) {
-            var blockStorage = new BlockStorage(chunkStorage, pos.clone(), data);
-            blockStorage.loadFromPersistent(chunkStorage);
-            return blockStorage;
+            return load(chunkStorage, pos.clone(), data);
         }
     }
 
@@ -1,28 +1,68 @@
 package com.wolfyscript.utilities.bukkit.persistent.world;
 
 import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.wolfyscript.utilities.collection.ConcurrentLongObjectMap;
 import com.wolfyscript.utilities.math.Vec2i;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Stores the {@link BlockStorage}s of a chunk.<br>
+ * <br>
+ * <b>Threading:</b><br>
+ * The read methods ({@link #getBlock(Location)}, {@link #isBlockStored(Location)}, {@link #getStoredBlocks()} and their overloads) are safe to call from any thread.
+ * Async readers only see blocks that are committed to the cache, so blocks of a chunk that is still loading asynchronously (See {@link #loadBlocksIntoCacheAsync()}) are not visible to them yet.<br>
+ * All the methods that modify the storage, load or flush it, must be called on the main thread, as they access the chunk and call the load/unload callbacks of the data.
+ */
 @JsonIncludeProperties
 public class ChunkStorage {
 
     public static final NamespacedKey BLOCKS_KEY = new NamespacedKey("wolfyutils", "blocks");
 
-    private static final String BLOCK_POS_KEY = "%s_%s_%s"; //x, y, z
+    private static final String BLOCK_POS_SEPARATOR = "_"; //-> "x_y_z"
     private static final String BLOCK_POS_NAMESPACE = "wolfyutils"; //-> "wolfyutils:x_y_z"
 
-    private final Map<Vector, BlockStorage> BLOCKS = new HashMap<>();
+    /**
+     * The stored blocks, indexed by their packed chunk-relative position (See {@link #packPos(int, int, int)}).
+     */
+    private final ConcurrentLongObjectMap<BlockStorage> BLOCKS = new ConcurrentLongObjectMap<>();
+    /**
+     * The packed positions of the blocks, that changed since the last {@link #flush()}.
+     */
+    private final Set<Long> dirtyBlocks = new HashSet<>();
+    /**
+     * The amount of stored blocks per section slot (See {@link #sectionSlot(int)}).<br>
+     * Only modified on the main thread.
+     */
+    private final int[] sectionCounts = new int[64];
+    /**
+     * The section index of this chunk. Bit i is set, when the section slot i contains at least one stored block.<br>
+     * Queries use it to skip chunks, that have no stored blocks in the queried height range.
+     */
+    private volatile long sectionMask = 0;
+    /**
+     * The blocks that are currently decoded asynchronously, and are not yet committed to the cache.
+     */
+    private volatile CompletableFuture<List<BlockStorage>> pendingLoad = null;
 
     private final Vec2i coords;
     private final WorldStorage worldStorage;
@@ -38,6 +78,36 @@ public class ChunkStorage {
         return core;
     }
 
+    /**
+     * Gets the coordinates of the chunk this storage belongs to.
+     *
+     * @return The chunk coordinates. The y component is the z coordinate of the chunk.
+     */
+    public Vec2i getCoords() {
+        return coords;
+    }
+
+    /**
+     * Checks if this storage contains any stored blocks, including blocks that are still loading asynchronously.
+     *
+     * @return True if there are stored blocks, or blocks that are still loading; otherwise false.
+     */
+    public boolean hasStoredBlocks() {
+        return pendingLoad != null || !BLOCKS.isEmpty();
+    }
+
+    /**
+     * Checks if the PersistentDataContainer of the chunk contains stored blocks.<br>
+     * This can be used to check if a chunk needs a ChunkStorage, before creating one.
+     *
+     * @param container The PersistentDataContainer of the chunk.
+     * @return True if the container has stored blocks; otherwise false.
+     */
+    public static boolean hasPersistentBlocks(PersistentDataContainer container) {
+        var blocks = container.get(BLOCKS_KEY, PersistentDataType.TAG_CONTAINER);
+        return blocks != null && !blocks.isEmpty();
+    }
+
     /**
      * Gets the parent WorldStorage of this ChunkStorage.
      *
@@ -58,26 +128,224 @@ public class ChunkStorage {
         return new ChunkStorage(worldStorage, coords);
     }
 
+    /**
+     * Packs the block position into a single long, that is relative to the chunk.<br>
+     * The x and z coordinates only use the lower 4 bits (0-15), while the y coordinate is stored in the remaining upper bits.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The packed chunk-relative position.
+     */
+    static long packPos(int x, int y, int z) {
+        return ((long) y << 8) | ((z & 0xF) << 4) | (x & 0xF);
+    }
+
+    /**
+     * Converts the packed position back to the absolute block position inside this chunk.
+     *
+     * @param packedPos The packed position created with {@link #packPos(int, int, int)}.
+     * @return A new Vector of the absolute block position.
+     */
+    Vector unpackPos(long packedPos) {
+        return new Vector(unpackX(packedPos), unpackY(packedPos), unpackZ(packedPos));
+    }
+
+    private int unpackX(long packedPos) {
+        return (coords.getX() << 4) | (int) (packedPos & 0xF);
+    }
+
+    private static int unpackY(long packedPos) {
+        return (int) (packedPos >> 8);
+    }
+
+    private int unpackZ(long packedPos) {
+        return (coords.getY() << 4) | (int) ((packedPos >> 4) & 0xF);
+    }
+
+    /**
+     * Gets the slot of the section (16 blocks high) of the y coordinate in the section index.<br>
+     * Worlds with more than 64 sections share slots, which only makes the index less selective, but never incorrect.
+     *
+     * @param y The block y coordinate.
+     * @return The slot of the section in the section index.
+     */
+    private static int sectionSlot(int y) {
+        return (y >> 4) & 63;
+    }
+
+    /**
+     * Creates the mask of the section slots, that the height range intersects.
+     *
+     * @param minY The min block y coordinate (inclusive).
+     * @param maxY The max block y coordinate (inclusive).
+     * @return The mask of the section slots.
+     */
+    private static long sectionRangeMask(int minY, int maxY) {
+        int minSection = minY >> 4;
+        int maxSection = maxY >> 4;
+        if (maxSection - minSection >= 63) return -1L;
+        long mask = 0;
+        for (int section = minSection; section <= maxSection; section++) {
+            mask |= 1L << (section & 63);
+        }
+        return mask;
+    }
+
+    private BlockStorage putStoredBlockIfAbsent(long packedPos, BlockStorage blockStorage) {
+        BlockStorage existing = BLOCKS.putIfAbsent(packedPos, blockStorage);
+        if (existing == null) {
+            int slot = sectionSlot(unpackY(packedPos));
+            if (sectionCounts[slot]++ == 0) {
+                sectionMask |= 1L << slot;
+            }
+        }
+        return existing;
+    }
+
+    private BlockStorage removeStoredBlock(long packedPos) {
+        BlockStorage previous = BLOCKS.remove(packedPos);
+        if (previous != null) {
+            int slot = sectionSlot(unpackY(packedPos));
+            if (--sectionCounts[slot] == 0) {
+                sectionMask &= ~(1L << slot);
+            }
+        }
+        return previous;
+    }
+
+    private static long packPos(Vector pos) {
+        return packPos(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ());
+    }
+
+    private static long packPos(Location location) {
+        return packPos(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
     /**
      * Loads the blocks from the PersistentDataContainer into the cache.<br>
      * From this point on the cache and PersistentDataContainer is kept in sync whenever adding/removing blocks.<br>
+     * Changes are written to the PersistentDataContainer in batches, see {@link #flush()}.<br>
      * <br>
      * <b>If for whatever reason the PersistentDataContainer was modified, this method should be called to update the cache!</b>
      */
     public void loadBlocksIntoCache() {
-        getPersistentBlocksContainer().ifPresent(blocks -> {
-            blocks.getKeys().forEach(key -> {
-                String[] coordsStrings = key.getKey().split("_");
-                int[] coords = new int[3];
-                for (int i = 0; i < coordsStrings.length; i++) {
-                    coords[i] = Integer.parseInt(coordsStrings[i]);
+        cancelPendingLoad();
+        commitBlocks(decodeBlocks(snapshotPersistentBlocks()));
+    }
+
+    /**
+     * Loads the blocks from the PersistentDataContainer into the cache, like {@link #loadBlocksIntoCache()}, but decodes them asynchronously.<br>
+     * <br>
+     * The persistent data of the blocks is copied on the calling (main) thread.
+     * Then the positions and data are decoded on an async worker thread, and the decoded blocks are committed to the cache on the next tick.<br>
+     * {@link BlockStorage#onLoad()} is called for every committed block.<br>
+     * <br>
+     * If the blocks of this storage are accessed before they are committed, the calling thread waits for the decoding to finish and commits them right away.
+     * That way the cache is never out of sync with the PersistentDataContainer.
+     *
+     * @return A future that completes once the decoded blocks are committed to the cache.
+     */
+    public CompletableFuture<Void> loadBlocksIntoCacheAsync() {
+        cancelPendingLoad();
+        var snapshot = snapshotPersistentBlocks();
+        if (snapshot.isEmpty()) return CompletableFuture.completedFuture(null);
+        Executor asyncExecutor = runnable -> Bukkit.getScheduler().runTaskAsynchronously(core, runnable);
+        var load = CompletableFuture.supplyAsync(() -> decodeBlocks(snapshot), asyncExecutor);
+        pendingLoad = load;
+        var committed = new CompletableFuture<Void>();
+        load.whenComplete((blocks, throwable) -> {
+            if (core.isEnabled()) {
+                Bukkit.getScheduler().runTask(core, () -> {
+                    commitPendingLoad(load);
+                    committed.complete(null);
+                });
+            } else {
+                committed.complete(null);
+            }
+        });
+        return committed;
+    }
+
+    /**
+     * Waits for the pending async load (if any) and commits the decoded blocks into the cache.<br>
+     * Does nothing when called from an async thread.
+     */
+    private void awaitPendingLoad() {
+        var load = pendingLoad;
+        if (load != null && Bukkit.isPrimaryThread()) {
+            // Only the main thread commits, since it calls the load callbacks. Async readers just see the blocks that are already committed.
+            commitPendingLoad(load);
+        }
+    }
+
+    /**
+     * Discards the pending async load (if any).<br>
+     * Because nothing was committed yet, the PersistentDataContainer still contains the unchanged data.
+     */
+    public void cancelPendingLoad() {
+        pendingLoad = null;
+    }
+
+    private void commitPendingLoad(CompletableFuture<List<BlockStorage>> load) {
+        if (pendingLoad != load) return; // Already committed or cancelled.
+        pendingLoad = null;
+        try {
+            commitBlocks(load.join());
+        } catch (CompletionException e) {
+            core.getLogger().severe("Failed to load the stored blocks of chunk " + coords.getX() + ", " + coords.getY());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Copies the persistent data of each stored block.<br>
+     * The copies are detached from the chunk, so they can safely be decoded on another thread.
+     *
+     * @return The copied persistent data of each block key.
+     */
+    private Map<NamespacedKey, PersistentDataContainer> snapshotPersistentBlocks() {
+        Map<NamespacedKey, PersistentDataContainer> snapshot = new HashMap<>();
+        getPersistentContainer().ifPresent(container -> {
+            var blocks = container.get(BLOCKS_KEY, PersistentDataType.TAG_CONTAINER);
+            if (blocks == null) return;
+            for (NamespacedKey key : blocks.getKeys()) {
+                var blockContainer = blocks.get(key, PersistentDataType.TAG_CONTAINER);
+                if (blockContainer != null) {
+                    snapshot.put(key, blockContainer);
                 }
-                var coordsVec = new Vector(coords[0], coords[1], coords[2]);
-                setBlockStorageIfAbsent(blocks.get(key, new BlockStorage.PersistentType(this, coordsVec)));
-            });
+            }
+        });
+        return snapshot;
+    }
+
+    private List<BlockStorage> decodeBlocks(Map<NamespacedKey, PersistentDataContainer> snapshot) {
+        List<BlockStorage> blocks = new ArrayList<>(snapshot.size());
+        snapshot.forEach((key, blockContainer) -> {
+            var pos = parseKeyOfBlock(key);
+            if (pos == null) {
+                core.getLogger().warning("Invalid stored block key \"" + key + "\" in chunk " + coords.getX() + ", " + coords.getY());
+                return;
+            }
+            blocks.add(BlockStorage.load(this, pos, blockContainer));
         });
+        return blocks;
     }
 
+    private void commitBlocks(List<BlockStorage> blocks) {
+        for (BlockStorage blockStorage : blocks) {
+            if (putStoredBlockIfAbsent(packPos(blockStorage.getPos()), blockStorage) != null) {
+                // The cache already contains another storage, that needs to overwrite the persistent one.
+                updateBlock(blockStorage.getPos());
+                continue;
+            }
+            if (blockStorage.requiresMigration()) {
+                // The persistent data uses a legacy format and needs to be saved in the current format.
+                updateBlock(blockStorage.getPos());
+            }
+            blockStorage.onLoad();
+        }
+    }
     /**
      * Gets the Chunk this Storage belongs to.<br>
      * <b>This may load the chunk if it isn't already!</b>
@@ -128,8 +396,21 @@ public class ChunkStorage {
      * @see #removeBlock(Location)
      */
     public Optional<BlockStorage> removeBlock(Vector pos) {
-        var previousStore = BLOCKS.remove(pos);
-        updateBlock(pos);
+        return removeBlock(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ());
+    }
+
+    /**
+     * Removes the BlockStorage at the specified block coordinates.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return Optional of the previously stored data; otherwise empty Optional.
+     */
+    public Optional<BlockStorage> removeBlock(int x, int y, int z) {
+        awaitPendingLoad();
+        var previousStore = removeStoredBlock(packPos(x, y, z));
+        updateBlock(x, y, z);
         if (previousStore != null) {
             previousStore.onUnload();
             return Optional.of(previousStore);
@@ -137,6 +418,41 @@ public class ChunkStorage {
         return Optional.empty();
     }
 
+    /**
+     * Removes the BlockStorage at the specified block coordinates without unloading it, so it can be moved to another position.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The detached BlockStorage; or null if there is none.
+     */
+    @Nullable
+    BlockStorage detachBlock(int x, int y, int z) {
+        awaitPendingLoad();
+        var blockStorage = removeStoredBlock(packPos(x, y, z));
+        if (blockStorage != null) {
+            updateBlock(x, y, z);
+        }
+        return blockStorage;
+    }
+
+    /**
+     * Applies the moved BlockStorage at its current position.<br>
+     * A BlockStorage, that already occupies the position, is replaced and unloaded.
+     *
+     * @param blockStorage The moved BlockStorage.
+     */
+    void attachBlock(BlockStorage blockStorage) {
+        awaitPendingLoad();
+        long packedPos = packPos(blockStorage.getPos());
+        var previousStore = removeStoredBlock(packedPos);
+        if (previousStore != null) {
+            previousStore.onUnload();
+        }
+        putStoredBlockIfAbsent(packedPos, blockStorage);
+        updateBlock(blockStorage.getPos());
+    }
+
     /**
      * Gets the BlockStorage if it exists; otherwise creates a new instance via {@link #createBlockStorage(Location)}.<br>
      *
@@ -148,8 +464,13 @@ public class ChunkStorage {
      * @return The existing BlockStorage; otherwise a new BlockStorage Instance.
      */
     public BlockStorage getOrCreateAndSetBlockStorage(Location location) {
-        var pos = location.toVector();
-        BlockStorage blockStorage = BLOCKS.computeIfAbsent(pos, vector -> createBlockStorage(location));
+        awaitPendingLoad();
+        long packedPos = packPos(location);
+        BlockStorage blockStorage = BLOCKS.get(packedPos);
+        if (blockStorage == null) {
+            blockStorage = createBlockStorage(location);
+            putStoredBlockIfAbsent(packedPos, blockStorage);
+        }
         updateBlock(blockStorage.getPos());
         return blockStorage;
     }
@@ -161,8 +482,9 @@ public class ChunkStorage {
      * @return The BlockStorage of the block if it exists; otherwise a new BlockStorage instance for the block.
      */
     public BlockStorage getOrCreateBlockStorage(Location location) {
-        var pos = location.toVector();
-        return BLOCKS.getOrDefault(pos, createBlockStorage(location));
+        awaitPendingLoad();
+        BlockStorage blockStorage = BLOCKS.get(packPos(location));
+        return blockStorage != null ? blockStorage : createBlockStorage(location);
     }
 
     /**
@@ -184,7 +506,8 @@ public class ChunkStorage {
      * @param blockStorage The BlockStorage to apply.
      */
     public void setBlockStorageIfAbsent(BlockStorage blockStorage) {
-        BLOCKS.putIfAbsent(blockStorage.getPos(), blockStorage);
+        awaitPendingLoad();
+        putStoredBlockIfAbsent(packPos(blockStorage.getPos()), blockStorage);
         updateBlock(blockStorage.getPos());
     }
 
@@ -195,7 +518,21 @@ public class ChunkStorage {
      * @return True if there exists a BlockStorage at the location; otherwise false.
      */
     public boolean isBlockStored(Location location) {
-        return BLOCKS.containsKey(location.toVector());
+        awaitPendingLoad();
+        return BLOCKS.containsKey(packPos(location));
+    }
+
+    /**
+     * Checks if there is an existing BlockStorage at the specified block coordinates.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return True if there exists a BlockStorage at the coordinates; otherwise false.
+     */
+    public boolean isBlockStored(int x, int y, int z) {
+        awaitPendingLoad();
+        return BLOCKS.containsKey(packPos(x, y, z));
     }
 
     /**
@@ -205,7 +542,98 @@ public class ChunkStorage {
      * @return The stored block if stored; otherwise empty Optional.
      */
     public Optional<BlockStorage> getBlock(Location location) {
-        return Optional.ofNullable(BLOCKS.get(location.toVector()));
+        awaitPendingLoad();
+        return Optional.ofNullable(BLOCKS.get(packPos(location)));
+    }
+
+    /**
+     * Gets the stored block at the specified block coordinates.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The stored block if stored; otherwise empty Optional.
+     */
+    public Optional<BlockStorage> getBlock(int x, int y, int z) {
+        awaitPendingLoad();
+        return Optional.ofNullable(BLOCKS.get(packPos(x, y, z)));
+    }
+
+    /**
+     * Calls the consumer for each stored block in this chunk.<br>
+     * Unlike {@link #getStoredBlocks()} this doesn't copy the block positions into Vectors.<br>
+     * The blocks are collected first, and the consumer is called afterwards, so it may add or remove blocks.
+     * Blocks, that were removed or replaced by a previous call of the consumer, are skipped.
+     *
+     * @param consumer The consumer to call for each stored block.
+     */
+    public void forEachBlock(Consumer<BlockStorage> consumer) {
+        awaitPendingLoad();
+        BlockSnapshot snapshot = new BlockSnapshot(BLOCKS.size());
+        BLOCKS.forEach(snapshot::add);
+        snapshot.forEach(consumer);
+    }
+
+    /**
+     * Calls the consumer for each stored block in this chunk, that is inside the specified box.<br>
+     * The section index is used to skip the chunk right away, if no block is stored in the height range of the box.<br>
+     * The blocks are collected first, and the consumer is called afterwards, so it may add or remove blocks.
+     * Blocks, that were removed or replaced by a previous call of the consumer, are skipped.
+     *
+     * @param minX     The min block x coordinate (inclusive).
+     * @param minY     The min block y coordinate (inclusive).
+     * @param minZ     The min block z coordinate (inclusive).
+     * @param maxX     The max block x coordinate (inclusive).
+     * @param maxY     The max block y coordinate (inclusive).
+     * @param maxZ     The max block z coordinate (inclusive).
+     * @param consumer The consumer to call for each stored block inside the box.
+     */
+    public void forEachInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Consumer<BlockStorage> consumer) {
+        awaitPendingLoad();
+        if ((sectionMask & sectionRangeMask(minY, maxY)) == 0) return;
+        BlockSnapshot snapshot = new BlockSnapshot(8);
+        BLOCKS.forEach((packedPos, blockStorage) -> {
+            int x = unpackX(packedPos);
+            int y = unpackY(packedPos);
+            int z = unpackZ(packedPos);
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                snapshot.add(packedPos, blockStorage);
+            }
+        });
+        snapshot.forEach(consumer);
+    }
+
+    /**
+     * The blocks collected while the map is locked, so the consumers can be called after the lock was released.<br>
+     * Calling them while the read lock is held, would deadlock as soon as they add or remove a block.
+     */
+    private final class BlockSnapshot {
+
+        private long[] positions;
+        private BlockStorage[] blocks;
+        private int size = 0;
+
+        private BlockSnapshot(int capacity) {
+            this.positions = new long[Math.max(capacity, 1)];
+            this.blocks = new BlockStorage[positions.length];
+        }
+
+        private void add(long packedPos, BlockStorage blockStorage) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                blocks = Arrays.copyOf(blocks, size * 2);
+            }
+            positions[size] = packedPos;
+            blocks[size++] = blockStorage;
+        }
+
+        private void forEach(Consumer<BlockStorage> consumer) {
+            for (int i = 0; i < size; i++) {
+                if (BLOCKS.get(positions[i]) == blocks[i]) {
+                    consumer.accept(blocks[i]);
+                }
+            }
+        }
     }
 
     /**
@@ -214,25 +642,56 @@ public class ChunkStorage {
      * @return The stored blocks in the chunk.
      */
     public Map<Vector, BlockStorage> getStoredBlocks() {
-        return BLOCKS.entrySet().stream().filter(entry -> entry.getValue() != null).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        awaitPendingLoad();
+        Map<Vector, BlockStorage> storedBlocks = new HashMap<>(BLOCKS.size() * 2);
+        BLOCKS.forEach((key, blockStorage) -> storedBlocks.put(unpackPos(key), blockStorage));
+        return storedBlocks;
     }
 
     /**
-     * Updates the specified block position in the PersistentStorageContainer.
+     * Marks the specified block position as changed.<br>
+     * The change is written to the PersistentStorageContainer on the next {@link #flush()}, which usually happens on the next tick.
      *
      * @param blockPos The block position to update.
      */
     public void updateBlock(Vector blockPos) {
+        updateBlock(blockPos.getBlockX(), blockPos.getBlockY(), blockPos.getBlockZ());
+    }
+
+    private void updateBlock(int x, int y, int z) {
+        dirtyBlocks.add(packPos(x, y, z));
+        worldStorage.markDirty(this);
+    }
+
+    /**
+     * Checks if there are changed block positions that are not yet written to the PersistentStorageContainer.
+     *
+     * @return True if there are unsaved changes; otherwise false.
+     */
+    public boolean isDirty() {
+        return !dirtyBlocks.isEmpty();
+    }
+
+    /**
+     * Writes all changed block positions to the PersistentStorageContainer of the chunk.<br>
+     * The blocks container is only fetched and written back once, no matter how many blocks changed.<br>
+     * <b>This may load the chunk if it isn't already!</b>
+     */
+    public void flush() {
+        if (dirtyBlocks.isEmpty()) return;
         getPersistentBlocksContainer().ifPresent(blocks -> {
-            var value = BLOCKS.get(blockPos);
-            var key = createKeyForBlock(blockPos);
-            if (value != null && !value.isEmpty()) { //Do not store empty storage in NBT, but keep them in cache.
-                blocks.set(key, new BlockStorage.PersistentType(this, blockPos), value);
-            } else {
-                blocks.remove(key);
+            for (long packedPos : dirtyBlocks) {
+                var value = BLOCKS.get(packedPos);
+                var key = createKeyForBlock(unpackX(packedPos), unpackY(packedPos), unpackZ(packedPos));
+                if (value != null && !value.isEmpty()) { //Do not store empty storage in NBT, but keep them in cache.
+                    blocks.set(key, new BlockStorage.PersistentType(this, value.getPos()), value);
+                } else {
+                    blocks.remove(key);
+                }
             }
             getPersistentContainer().ifPresent(container -> container.set(BLOCKS_KEY, PersistentDataType.TAG_CONTAINER, blocks));
         });
+        dirtyBlocks.clear();
     }
 
     /**
@@ -241,11 +700,36 @@ public class ChunkStorage {
      * The key can have a maximum of 255 characters.<br>
      * "wolfyutils" + ":" + "_"*2 = 13 -> leaves space for 242 characters for x, y, and z including +/-.
      *
-     * @param blockPos
-     * @return
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The key of the block position.
      */
-    private NamespacedKey createKeyForBlock(Vector blockPos) {
-        return new NamespacedKey(BLOCK_POS_NAMESPACE, BLOCK_POS_KEY.formatted(blockPos.getBlockX(), blockPos.getBlockY(), blockPos.getBlockZ()));
+    private NamespacedKey createKeyForBlock(int x, int y, int z) {
+        return new NamespacedKey(BLOCK_POS_NAMESPACE, x + BLOCK_POS_SEPARATOR + y + BLOCK_POS_SEPARATOR + z);
+    }
+
+    /**
+     * Parses the block position from a key, that was created using {@link #createKeyForBlock(int, int, int)}.
+     *
+     * @param key The key of the block.
+     * @return The block position; or null if the key has an invalid format.
+     */
+    private static Vector parseKeyOfBlock(NamespacedKey key) {
+        String value = key.getKey();
+        int[] coords = new int[3];
+        int start = 0;
+        for (int i = 0; i < 3; i++) {
+            int end = i < 2 ? value.indexOf('_', start) : value.length();
+            if (end < 0) return null;
+            try {
+                coords[i] = Integer.parseInt(value, start, end, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            start = end + 1;
+        }
+        return new Vector(coords[0], coords[1], coords[2]);
     }
 
 }
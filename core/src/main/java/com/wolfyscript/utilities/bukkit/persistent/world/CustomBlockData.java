@@ -6,22 +6,26 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.annotation.JsonTypeIdResolver;
 import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import me.wolfyscript.utilities.registry.Registries;
 import me.wolfyscript.utilities.util.Keyed;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeIdResolver;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeResolver;
+import org.bukkit.util.Vector;
 
 /**
  * This data is used to store persistent data on Blocks.<br>
  * The data is saved directly inside the Chunks' {@link org.bukkit.persistence.PersistentDataContainer}, so it persists across server restarts.<br>
- * In order to save it the {@link CustomBlockData} is serialized into a JsonString using Jackson.<br>
- * The String is then saved into the {@link org.bukkit.persistence.PersistentDataContainer} with the id ({@link org.bukkit.NamespacedKey}) as the key.<br>
+ * In order to save it the {@link CustomBlockData} is encoded using the {@link CustomBlockDataCodec} of its type (See {@link #registerCodec(NamespacedKey, CustomBlockDataCodec)}).<br>
+ * By default, it is serialized using Jackson and stored in a compact binary format (See {@link CustomBlockDataCodec#BINARY}).<br>
+ * The encoded value is then saved into the {@link org.bukkit.persistence.PersistentDataContainer} with the id ({@link org.bukkit.NamespacedKey}) as the key.<br>
  * <br>
  * <strong>To make use of the implementation it must be registered via {@link Registries#getCustomBlockData()}!</strong>
  * <br>
  * On Deserialization the key is used to find the registered data type (See {@link Registries#getCustomBlockData()})<br>
- * The String content is then deserialized to that type using Jackson.<br>
+ * The content is then decoded to that type using the codec, which by default deserializes it using Jackson.<br>
  * There are injectable values that can be used in the constructor to get access to the Core, ChunkStorage, Position, etc.<br>
  * <ul>
  *     <li>{@link me.wolfyscript.utilities.api.WolfyUtilCore}</li>
@@ -38,6 +42,8 @@ import me.wolfyscript.utilities.util.json.jackson.KeyedTypeResolver;
 @JsonPropertyOrder(value = {"id"})
 public abstract class CustomBlockData implements Keyed {
 
+    private static final Map<NamespacedKey, CustomBlockDataCodec> CODECS = new ConcurrentHashMap<>();
+
     @JsonProperty("id")
     private final NamespacedKey id;
 
@@ -45,6 +51,27 @@ public abstract class CustomBlockData implements Keyed {
         this.id = id;
     }
 
+    /**
+     * Registers the codec that is used to save and load the data type with the specified id.<br>
+     * Types that have no codec registered use the {@link CustomBlockDataCodec#BINARY} codec.
+     *
+     * @param id    The id of the data type.
+     * @param codec The codec to use for the data type.
+     */
+    public static void registerCodec(NamespacedKey id, CustomBlockDataCodec codec) {
+        CODECS.put(id, codec);
+    }
+
+    /**
+     * Gets the codec that is used to save and load the data type with the specified id.
+     *
+     * @param id The id of the data type.
+     * @return The registered codec of the type; or the default {@link CustomBlockDataCodec#BINARY} codec.
+     */
+    public static CustomBlockDataCodec getCodec(NamespacedKey id) {
+        return CODECS.getOrDefault(id, CustomBlockDataCodec.BINARY);
+    }
+
     /**
      * Called when the BlockStorage is initialising its data.
      * Usually right after the data was constructed.
@@ -56,6 +83,24 @@ public abstract class CustomBlockData implements Keyed {
      */
     public abstract void onUnload();
 
+    /**
+     * Called when the BlockStorage is moved to another position, e.g. when it is pushed by a piston.<br>
+     * The BlockStorage already has its new position and ChunkStorage at this point.<br>
+     * <br>
+     * Data that depends on its position should override this to update itself in place and return itself.
+     * By default, the data is unloaded and copied to the moved BlockStorage, like it would when it is removed and placed again.
+     *
+     * @param storage     The moved BlockStorage.
+     * @param previousPos The previous position of the BlockStorage.
+     * @return The data to use at the new position.
+     */
+    public CustomBlockData onMove(BlockStorage storage, Vector previousPos) {
+        onUnload();
+        CustomBlockData moved = copyTo(storage);
+        moved.onLoad();
+        return moved;
+    }
+
     public abstract CustomBlockData copy();
 
     /**
@@ -0,0 +1,360 @@
+package com.wolfyscript.utilities.bukkit.persistent.world;
+
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import me.wolfyscript.utilities.api.WolfyUtilCore;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes and decodes {@link CustomBlockData} to and from the {@link PersistentDataContainer} of the {@link BlockStorage}.<br>
+ * Each data type can register its own codec using {@link CustomBlockData#registerCodec(me.wolfyscript.utilities.util.NamespacedKey, CustomBlockDataCodec)}.<br>
+ * Types without a registered codec use the {@link #BINARY} codec.<br>
+ * <br>
+ * The {@link #JSON} codec is the format that was used before codecs were introduced.
+ * It is used as a fallback to read data that was not yet migrated to the new format.
+ */
+public interface CustomBlockDataCodec {
+
+    /**
+     * The default codec, that encodes the data into a compact binary representation of the Jackson tree.
+     */
+    CustomBlockDataCodec BINARY = new Binary();
+
+    /**
+     * The legacy codec, that encodes the data into a Json String.
+     */
+    CustomBlockDataCodec JSON = new Json();
+
+    /**
+     * Checks if this codec is able to decode the value that is stored under the specified key.
+     *
+     * @param container The container of the block data.
+     * @param key       The key of the data.
+     * @return True if the stored value has the format of this codec; otherwise false.
+     */
+    boolean canDecode(@NotNull PersistentDataContainer container, @NotNull NamespacedKey key);
+
+    /**
+     * Encodes the data and stores it in the container under the specified key.
+     *
+     * @param context   The context of the block.
+     * @param data      The data to encode.
+     * @param container The container of the block data.
+     * @param key       The key of the data.
+     * @throws IOException If the data could not be encoded.
+     */
+    void encode(@NotNull Context context, @NotNull CustomBlockData data, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException;
+
+    /**
+     * Decodes the data that is stored under the specified key.
+     *
+     * @param context   The context of the block.
+     * @param container The container of the block data.
+     * @param key       The key of the data.
+     * @return The decoded data; or null if there is no data.
+     * @throws IOException If the data could not be decoded.
+     */
+    @Nullable
+    CustomBlockData decode(@NotNull Context context, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException;
+
+    /**
+     * Contains the values of the block, that the data is encoded for or decoded from.
+     *
+     * @param core         The core of WolfyUtils.
+     * @param chunkStorage The ChunkStorage of the block.
+     * @param pos          The position of the block.
+     */
+    record Context(WolfyUtilCore core, ChunkStorage chunkStorage, Vector pos) {
+
+        public ObjectMapper getMapper() {
+            return core.getWolfyUtils().getJacksonMapperUtil().getGlobalMapper();
+        }
+
+        /**
+         * Creates the reader for {@link CustomBlockData}, that has the injectable values of this context.<br>
+         * <ul>
+         *     <li>{@link WolfyUtilCore}</li>
+         *     <li>{@link ChunkStorage}</li>
+         *     <li>{@link Vector}</li>
+         * </ul>
+         *
+         * @return The reader with the injectable values of this context.
+         */
+        public ObjectReader getReader() {
+            return ReaderCache.get(getMapper()).with(new InjectableValues.Std()
+                    .addValue(WolfyUtilCore.class, core)
+                    .addValue(ChunkStorage.class, chunkStorage)
+                    .addValue(Vector.class, pos)
+            );
+        }
+    }
+
+    /**
+     * Caches the base reader for the CustomBlockData type, so it isn't constructed for each block.<br>
+     * The cached reader is replaced when the global mapper changes.
+     */
+    final class ReaderCache {
+
+        private static volatile ObjectReader reader;
+        private static volatile ObjectMapper readerMapper;
+
+        private ReaderCache() {
+        }
+
+        static ObjectReader get(ObjectMapper mapper) {
+            ObjectReader cached = reader;
+            if (cached == null || readerMapper != mapper) {
+                cached = mapper.readerFor(CustomBlockData.class);
+                reader = cached;
+                readerMapper = mapper;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Stores the data as a Json String.
+     */
+    final class Json implements CustomBlockDataCodec {
+
+        private Json() {
+        }
+
+        @Override
+        public boolean canDecode(@NotNull PersistentDataContainer container, @NotNull NamespacedKey key) {
+            return container.has(key, PersistentDataType.STRING);
+        }
+
+        @Override
+        public void encode(@NotNull Context context, @NotNull CustomBlockData data, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException {
+            container.set(key, PersistentDataType.STRING, context.getMapper().writeValueAsString(data));
+        }
+
+        @Override
+        public @Nullable CustomBlockData decode(@NotNull Context context, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException {
+            String value = container.get(key, PersistentDataType.STRING);
+            if (value == null) return null;
+            return context.getReader().readValue(value);
+        }
+    }
+
+    /**
+     * Stores the data as a byte array, that contains a compact binary representation of the Jackson tree of the data.<br>
+     * This prevents the tokenization of Json text when loading chunks, and reduces the size of the chunk NBT.<br>
+     * <br>
+     * Format:
+     * <pre>
+     * version: byte
+     * node:    tag: byte, value (depends on tag)
+     * </pre>
+     * Integers use zigzag encoded variable length ints and Strings are stored as length prefixed UTF-8 bytes.
+     */
+    final class Binary implements CustomBlockDataCodec {
+
+        private static final byte FORMAT_VERSION = 1;
+
+        private static final byte TAG_NULL = 0;
+        private static final byte TAG_TRUE = 1;
+        private static final byte TAG_FALSE = 2;
+        private static final byte TAG_INT = 3;
+        private static final byte TAG_LONG = 4;
+        private static final byte TAG_FLOAT = 5;
+        private static final byte TAG_DOUBLE = 6;
+        private static final byte TAG_BIG_INTEGER = 7;
+        private static final byte TAG_BIG_DECIMAL = 8;
+        private static final byte TAG_STRING = 9;
+        private static final byte TAG_BINARY = 10;
+        private static final byte TAG_ARRAY = 11;
+        private static final byte TAG_OBJECT = 12;
+
+        private Binary() {
+        }
+
+        @Override
+        public boolean canDecode(@NotNull PersistentDataContainer container, @NotNull NamespacedKey key) {
+            return container.has(key, PersistentDataType.BYTE_ARRAY);
+        }
+
+        @Override
+        public void encode(@NotNull Context context, @NotNull CustomBlockData data, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException {
+            JsonNode node = context.getMapper().valueToTree(data);
+            var bytes = new ByteArrayOutputStream(64);
+            try (var out = new DataOutputStream(bytes)) {
+                out.writeByte(FORMAT_VERSION);
+                writeNode(out, node);
+            }
+            container.set(key, PersistentDataType.BYTE_ARRAY, bytes.toByteArray());
+        }
+
+        @Override
+        public @Nullable CustomBlockData decode(@NotNull Context context, @NotNull PersistentDataContainer container, @NotNull NamespacedKey key) throws IOException {
+            byte[] value = container.get(key, PersistentDataType.BYTE_ARRAY);
+            if (value == null) return null;
+            JsonNode node;
+            try (var in = new DataInputStream(new ByteArrayInputStream(value))) {
+                byte version = in.readByte();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Unsupported custom block data format version: " + version);
+                }
+                node = readNode(in, JsonNodeFactory.instance);
+            }
+            return context.getReader().readValue(node);
+        }
+
+        private static void writeNode(DataOutputStream out, JsonNode node) throws IOException {
+            switch (node.getNodeType()) {
+                case BOOLEAN -> out.writeByte(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+                case NUMBER -> {
+                    switch (node.numberType()) {
+                        case INT -> {
+                            out.writeByte(TAG_INT);
+                            writeVarLong(out, node.intValue());
+                        }
+                        case LONG -> {
+                            out.writeByte(TAG_LONG);
+                            writeVarLong(out, node.longValue());
+                        }
+                        case FLOAT -> {
+                            out.writeByte(TAG_FLOAT);
+                            out.writeFloat(node.floatValue());
+                        }
+                        case DOUBLE -> {
+                            out.writeByte(TAG_DOUBLE);
+                            out.writeDouble(node.doubleValue());
+                        }
+                        case BIG_INTEGER -> {
+                            out.writeByte(TAG_BIG_INTEGER);
+                            writeString(out, node.bigIntegerValue().toString());
+                        }
+                        case BIG_DECIMAL -> {
+                            out.writeByte(TAG_BIG_DECIMAL);
+                            writeString(out, node.decimalValue().toString());
+                        }
+                    }
+                }
+                case STRING -> {
+                    out.writeByte(TAG_STRING);
+                    writeString(out, node.textValue());
+                }
+                case BINARY -> {
+                    byte[] binary = node.binaryValue();
+                    out.writeByte(TAG_BINARY);
+                    writeVarLong(out, binary.length);
+                    out.write(binary);
+                }
+                case ARRAY -> {
+                    out.writeByte(TAG_ARRAY);
+                    writeVarLong(out, node.size());
+                    for (JsonNode element : node) {
+                        writeNode(out, element);
+                    }
+                }
+                case OBJECT -> {
+                    out.writeByte(TAG_OBJECT);
+                    writeVarLong(out, node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeString(out, field.getKey());
+                        writeNode(out, field.getValue());
+                    }
+                }
+                default -> out.writeByte(TAG_NULL); // NULL, MISSING, POJO
+            }
+        }
+
+        private static JsonNode readNode(DataInputStream in, JsonNodeFactory factory) throws IOException {
+            byte tag = in.readByte();
+            return switch (tag) {
+                case TAG_NULL -> factory.nullNode();
+                case TAG_TRUE -> factory.booleanNode(true);
+                case TAG_FALSE -> factory.booleanNode(false);
+                case TAG_INT -> factory.numberNode((int) readVarLong(in));
+                case TAG_LONG -> factory.numberNode(readVarLong(in));
+                case TAG_FLOAT -> factory.numberNode(in.readFloat());
+                case TAG_DOUBLE -> factory.numberNode(in.readDouble());
+                case TAG_BIG_INTEGER -> factory.numberNode(new BigInteger(readString(in)));
+                case TAG_BIG_DECIMAL -> factory.numberNode(new BigDecimal(readString(in)));
+                case TAG_STRING -> factory.textNode(readString(in));
+                case TAG_BINARY -> {
+                    byte[] binary = new byte[(int) readVarLong(in)];
+                    in.readFully(binary);
+                    yield factory.binaryNode(binary);
+                }
+                case TAG_ARRAY -> {
+                    int size = (int) readVarLong(in);
+                    ArrayNode arrayNode = factory.arrayNode(size);
+                    for (int i = 0; i < size; i++) {
+                        arrayNode.add(readNode(in, factory));
+                    }
+                    yield arrayNode;
+                }
+                case TAG_OBJECT -> {
+                    int size = (int) readVarLong(in);
+                    ObjectNode objectNode = factory.objectNode();
+                    for (int i = 0; i < size; i++) {
+                        String name = readString(in);
+                        objectNode.set(name, readNode(in, factory));
+                    }
+                    yield objectNode;
+                }
+                default -> throw new IOException("Unknown custom block data tag: " + tag);
+            };
+        }
+
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            byte[] bytes = new byte[(int) readVarLong(in)];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.writeByte((int) zigzag);
+        }
+
+        private static long readVarLong(DataInputStream in) throws IOException {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift > 63) throw new IOException("Malformed variable length number!");
+                b = in.readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    }
+
+}
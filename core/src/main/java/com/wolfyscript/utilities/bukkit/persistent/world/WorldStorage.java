@@ -1,22 +1,49 @@
 package com.wolfyscript.utilities.bukkit.persistent.world;
 
+import com.wolfyscript.utilities.collection.ConcurrentLongObjectMap;
+import com.wolfyscript.utilities.collection.LongObjectMap;
 import com.wolfyscript.utilities.math.Vec2i;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataHolder;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.bukkit.util.BoundingBox;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Stores the {@link ChunkStorage}s of a world.<br>
+ * <br>
+ * <b>Threading:</b><br>
+ * Looking up blocks ({@link #getBlock(Location)}, {@link #isBlockStored(Location)} and their overloads) is safe from any thread.
+ * Modifying blocks, unloading chunks and flushing must happen on the main thread.
+ * See {@link ChunkStorage} for more details.<br>
+ * <br>
+ * ChunkStorages are only created for chunks that contain stored blocks when they are loaded, or when blocks are added to them.
+ * Lookups never create a ChunkStorage, so checking a block in a chunk without any stored blocks fails fast without allocating anything.
+ */
 public class WorldStorage {
 
-    private final Map<Vec2i, ChunkStorage> CHUNK_DATA = new HashMap<>();
+    /**
+     * The ChunkStorages of the chunks, indexed by their packed chunk coordinates (See {@link #chunkKey(int, int)}).
+     */
+    private final ConcurrentLongObjectMap<ChunkStorage> CHUNK_DATA = new ConcurrentLongObjectMap<>();
+    private final Set<ChunkStorage> dirtyChunks = new HashSet<>();
 
     private final WolfyUtilCore core;
     private final UUID worldUUID;
@@ -34,20 +61,76 @@ public class WorldStorage {
         return Optional.ofNullable(Bukkit.getWorld(worldUUID));
     }
 
+    /**
+     * Packs the chunk coordinates into a single long.
+     *
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return The packed chunk coordinates.
+     */
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
     public ChunkStorage getOrCreateChunkStorage(Vec2i chunkCoords) {
-        return CHUNK_DATA.computeIfAbsent(chunkCoords, vec2i -> ChunkStorage.create(this, vec2i));
+        return getOrCreateChunkStorage(chunkCoords.getX(), chunkCoords.getY());
     }
 
     public ChunkStorage getOrCreateChunkStorage(int chunkX, int chunkZ) {
-        return getOrCreateChunkStorage(new Vec2i(chunkX, chunkZ));
+        return CHUNK_DATA.computeIfAbsent(chunkKey(chunkX, chunkZ), key -> ChunkStorage.create(this, new Vec2i(chunkX, chunkZ)));
     }
 
     public ChunkStorage getOrCreateChunkStorage(Location location) {
-        return getOrCreateChunkStorage(new Vec2i(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        return getOrCreateChunkStorage(location.getBlockX() >> 4, location.getBlockZ() >> 4);
     }
 
     private ChunkStorage getOrCreateChunkStorage(Vector pos) {
-        return getOrCreateChunkStorage(new Vec2i(pos.getBlockX() >> 4, pos.getBlockZ() >> 4));
+        return getOrCreateChunkStorage(pos.getBlockX() >> 4, pos.getBlockZ() >> 4);
+    }
+
+    /**
+     * Gets the ChunkStorage of the specified chunk, without creating it if it doesn't exist.
+     *
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return The ChunkStorage of the chunk; or empty Optional if the chunk has no storage.
+     */
+    public Optional<ChunkStorage> getChunkStorage(int chunkX, int chunkZ) {
+        return Optional.ofNullable(CHUNK_DATA.get(chunkKey(chunkX, chunkZ)));
+    }
+
+    /**
+     * Gets the ChunkStorage, that contains the block at the specified block coordinates, but only if it has stored blocks.
+     *
+     * @param blockX The block x coordinate.
+     * @param blockZ The block z coordinate.
+     * @return The ChunkStorage with stored blocks; or null if there are no stored blocks in the chunk.
+     */
+    @Nullable
+    private ChunkStorage getChunkStorageWithBlocks(int blockX, int blockZ) {
+        ChunkStorage chunkStorage = CHUNK_DATA.get(chunkKey(blockX >> 4, blockZ >> 4));
+        return chunkStorage != null && chunkStorage.hasStoredBlocks() ? chunkStorage : null;
+    }
+
+    /**
+     * Checks if the specified chunk contains any stored blocks.
+     *
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return True if the chunk has stored blocks; otherwise false.
+     */
+    public boolean hasStoredBlocks(int chunkX, int chunkZ) {
+        ChunkStorage chunkStorage = CHUNK_DATA.get(chunkKey(chunkX, chunkZ));
+        return chunkStorage != null && chunkStorage.hasStoredBlocks();
+    }
+
+    /**
+     * Gets the amount of ChunkStorages, that are currently cached in this world.
+     *
+     * @return The amount of cached ChunkStorages.
+     */
+    public int getChunkStorageCount() {
+        return CHUNK_DATA.size();
     }
 
     public BlockStorage getOrCreateAndSetBlockStorage(Location location) {
@@ -84,8 +167,39 @@ public class WorldStorage {
         getOrCreateChunkStorage(blockStorage.getPos()).setBlockStorageIfAbsent(blockStorage);
     }
 
+    /**
+     * Marks the ChunkStorage as changed, so it is flushed on the next tick.<br>
+     * Multiple changes within the same tick are written together in a single flush.
+     *
+     * @param chunkStorage The changed ChunkStorage.
+     */
+    void markDirty(ChunkStorage chunkStorage) {
+        if (!core.isEnabled()) {
+            // Cannot schedule tasks while disabled, so write the changes directly.
+            chunkStorage.flush();
+            return;
+        }
+        if (dirtyChunks.isEmpty()) {
+            Bukkit.getScheduler().runTask(core, this::flush);
+        }
+        dirtyChunks.add(chunkStorage);
+    }
+
+    /**
+     * Writes the changes of all the changed ChunkStorages to their Chunks' PersistentDataContainer.
+     */
+    public void flush() {
+        if (dirtyChunks.isEmpty()) return;
+        var chunks = new ArrayList<>(dirtyChunks);
+        dirtyChunks.clear();
+        chunks.forEach(ChunkStorage::flush);
+    }
+
     public void unloadChunk(ChunkStorage chunkStorage) {
-        chunkStorage.getChunk().ifPresent(chunk -> CHUNK_DATA.remove(new Vec2i(chunk.getX(), chunk.getZ())));
+        chunkStorage.flush();
+        dirtyChunks.remove(chunkStorage);
+        Vec2i coords = chunkStorage.getCoords();
+        CHUNK_DATA.remove(chunkKey(coords.getX(), coords.getY()));
     }
 
     /**
@@ -94,15 +208,233 @@ public class WorldStorage {
      * @param location The target location of the block
      */
     public Optional<BlockStorage> removeBlock(Location location) {
-        return getOrCreateChunkStorage(location).removeBlock(location);
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(location.getBlockX(), location.getBlockZ());
+        return chunkStorage != null ? chunkStorage.removeBlock(location) : Optional.empty();
+    }
+
+    /**
+     * Removes the stored block at the specified block coordinates and stops every active particle effect.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return Optional of the previously stored data; otherwise empty Optional.
+     */
+    public Optional<BlockStorage> removeBlock(int x, int y, int z) {
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(x, z);
+        return chunkStorage != null ? chunkStorage.removeBlock(x, y, z) : Optional.empty();
+    }
+
+    /**
+     * Removes the stored blocks of all the specified blocks and stops every active particle effect.<br>
+     * The blocks are grouped by chunk, so each chunk is only looked up once, and chunks without stored blocks are skipped entirely.<br>
+     * The changes of each chunk are written right away in a single flush.
+     *
+     * @param blocks The blocks to remove the stored blocks of.
+     * @return The removed BlockStorages mapped by their blocks; or an empty Map if none of the blocks were stored.
+     */
+    public Map<Block, BlockStorage> removeBlocks(Collection<Block> blocks) {
+        LongObjectMap<List<Block>> blocksByChunk = new LongObjectMap<>();
+        for (Block block : blocks) {
+            blocksByChunk.computeIfAbsent(chunkKey(block.getX() >> 4, block.getZ() >> 4), key -> new ArrayList<>()).add(block);
+        }
+        Map<Block, BlockStorage> removed = new HashMap<>();
+        blocksByChunk.forEach((key, chunkBlocks) -> {
+            ChunkStorage chunkStorage = CHUNK_DATA.get(key);
+            if (chunkStorage == null || !chunkStorage.hasStoredBlocks()) return;
+            for (Block block : chunkBlocks) {
+                if (chunkStorage.isBlockStored(block.getX(), block.getY(), block.getZ())) {
+                    chunkStorage.removeBlock(block.getX(), block.getY(), block.getZ()).ifPresent(storage -> removed.put(block, storage));
+                }
+            }
+            if (chunkStorage.isDirty()) {
+                chunkStorage.flush();
+                dirtyChunks.remove(chunkStorage);
+            }
+        });
+        return removed;
+    }
+
+    /**
+     * Moves the stored blocks at the specified positions one block into the specified direction, e.g. when they are pushed by a piston.<br>
+     * The BlockStorages are relocated in place, instead of being removed and copied, so their data is kept as is and only notified via {@link BlockStorage#onMove(Vector)}.<br>
+     * All blocks are detached before any of them is applied at its new position, so the order of overlapping positions doesn't matter.<br>
+     * The changes of each affected chunk are written right away in a single flush.
+     *
+     * @param from      The positions of the blocks to move.
+     * @param direction The direction to move the blocks in.
+     */
+    public void moveBlocks(List<Vector> from, BlockFace direction) {
+        moveBlocks(from, direction.getModX(), direction.getModY(), direction.getModZ());
+    }
+
+    /**
+     * Moves the stored block from one location to another, e.g. when a Dragon Egg teleports.
+     *
+     * @param from The location of the block to move.
+     * @param to   The location to move the block to.
+     * @see #moveBlocks(List, BlockFace)
+     */
+    public void moveBlock(Location from, Location to) {
+        moveBlocks(List.of(from.toVector()), to.getBlockX() - from.getBlockX(), to.getBlockY() - from.getBlockY(), to.getBlockZ() - from.getBlockZ());
+    }
+
+    private void moveBlocks(List<Vector> from, int offsetX, int offsetY, int offsetZ) {
+        List<BlockStorage> moved = new ArrayList<>(from.size());
+        Set<ChunkStorage> changedChunks = new HashSet<>();
+        for (Vector pos : from) {
+            ChunkStorage chunkStorage = getChunkStorageWithBlocks(pos.getBlockX(), pos.getBlockZ());
+            if (chunkStorage == null) continue;
+            BlockStorage blockStorage = chunkStorage.detachBlock(pos.getBlockX(), pos.getBlockY(), pos.getBlockZ());
+            if (blockStorage != null) {
+                moved.add(blockStorage);
+                changedChunks.add(chunkStorage);
+            }
+        }
+        if (moved.isEmpty()) return;
+        List<Vector> previousPositions = new ArrayList<>(moved.size());
+        for (BlockStorage blockStorage : moved) {
+            Vector previousPos = blockStorage.getPos();
+            Vector targetPos = new Vector(previousPos.getBlockX() + offsetX, previousPos.getBlockY() + offsetY, previousPos.getBlockZ() + offsetZ);
+            ChunkStorage targetChunk = getOrCreateChunkStorage(targetPos);
+            blockStorage.setPosition(targetChunk, targetPos);
+            targetChunk.attachBlock(blockStorage);
+            changedChunks.add(targetChunk);
+            previousPositions.add(previousPos);
+        }
+        for (int i = 0; i < moved.size(); i++) {
+            moved.get(i).onMove(previousPositions.get(i));
+        }
+        for (ChunkStorage chunkStorage : changedChunks) {
+            chunkStorage.flush();
+            dirtyChunks.remove(chunkStorage);
+        }
     }
 
     public boolean isBlockStored(Location location) {
-        return getBlock(location).isPresent();
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(location.getBlockX(), location.getBlockZ());
+        return chunkStorage != null && chunkStorage.isBlockStored(location);
+    }
+
+    /**
+     * Checks if there is a stored block at the specified block coordinates.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return True if there exists a BlockStorage at the coordinates; otherwise false.
+     */
+    public boolean isBlockStored(int x, int y, int z) {
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(x, z);
+        return chunkStorage != null && chunkStorage.isBlockStored(x, y, z);
     }
 
     public Optional<BlockStorage> getBlock(Location location) {
-        return getOrCreateChunkStorage(location).getBlock(location);
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(location.getBlockX(), location.getBlockZ());
+        return chunkStorage != null ? chunkStorage.getBlock(location) : Optional.empty();
+    }
+
+    /**
+     * Gets the stored block at the specified block coordinates.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The stored block if stored; otherwise empty Optional.
+     */
+    public Optional<BlockStorage> getBlock(int x, int y, int z) {
+        ChunkStorage chunkStorage = getChunkStorageWithBlocks(x, z);
+        return chunkStorage != null ? chunkStorage.getBlock(x, y, z) : Optional.empty();
+    }
+
+    /**
+     * Calls the consumer for each stored block in the specified chunk.<br>
+     * The consumer may add or remove blocks (See {@link ChunkStorage#forEachBlock(Consumer)}).
+     *
+     * @param chunkX   The chunk x coordinate.
+     * @param chunkZ   The chunk z coordinate.
+     * @param consumer The consumer to call for each stored block.
+     */
+    public void forEachInChunk(int chunkX, int chunkZ, Consumer<BlockStorage> consumer) {
+        ChunkStorage chunkStorage = CHUNK_DATA.get(chunkKey(chunkX, chunkZ));
+        if (chunkStorage != null && chunkStorage.hasStoredBlocks()) {
+            chunkStorage.forEachBlock(consumer);
+        }
+    }
+
+    /**
+     * Calls the consumer for each stored block inside the specified box.<br>
+     * Only the chunks that intersect the box and contain stored blocks are visited. No ChunkStorage is created.<br>
+     * The consumer may add or remove blocks (See {@link ChunkStorage#forEachInBox(int, int, int, int, int, int, Consumer)}).
+     *
+     * @param minX     The min block x coordinate (inclusive).
+     * @param minY     The min block y coordinate (inclusive).
+     * @param minZ     The min block z coordinate (inclusive).
+     * @param maxX     The max block x coordinate (inclusive).
+     * @param maxY     The max block y coordinate (inclusive).
+     * @param maxZ     The max block z coordinate (inclusive).
+     * @param consumer The consumer to call for each stored block inside the box.
+     */
+    public void queryBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Consumer<BlockStorage> consumer) {
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ChunkStorage chunkStorage = CHUNK_DATA.get(chunkKey(chunkX, chunkZ));
+                if (chunkStorage != null && chunkStorage.hasStoredBlocks()) {
+                    chunkStorage.forEachInBox(minX, minY, minZ, maxX, maxY, maxZ, consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer for each stored block, that intersects the specified bounding box.<br>
+     * The consumer may add or remove blocks (See {@link ChunkStorage#forEachInBox(int, int, int, int, int, int, Consumer)}).
+     *
+     * @param box      The bounding box in world coordinates.
+     * @param consumer The consumer to call for each stored block inside the box.
+     * @see #queryBox(int, int, int, int, int, int, Consumer)
+     */
+    public void queryBox(BoundingBox box, Consumer<BlockStorage> consumer) {
+        queryBox(
+                (int) Math.floor(box.getMinX()), (int) Math.floor(box.getMinY()), (int) Math.floor(box.getMinZ()),
+                maxBlockCoord(box.getMinX(), box.getMaxX()), maxBlockCoord(box.getMinY(), box.getMaxY()), maxBlockCoord(box.getMinZ(), box.getMaxZ()),
+                consumer
+        );
+    }
+
+    /**
+     * Gets the max block coordinate, that is still intersected by the range.
+     */
+    private static int maxBlockCoord(double min, double max) {
+        return Math.max((int) Math.floor(min), (int) Math.ceil(max) - 1);
+    }
+
+    /**
+     * Calls the consumer for each stored block, which center is inside the specified radius around the center.<br>
+     * The consumer may add or remove blocks (See {@link ChunkStorage#forEachInBox(int, int, int, int, int, int, Consumer)}).
+     *
+     * @param center   The center of the sphere. The world of the location is ignored.
+     * @param radius   The radius of the sphere.
+     * @param consumer The consumer to call for each stored block inside the sphere.
+     */
+    public void queryRadius(Location center, double radius, Consumer<BlockStorage> consumer) {
+        double centerX = center.getX();
+        double centerY = center.getY();
+        double centerZ = center.getZ();
+        double radiusSquared = radius * radius;
+        queryBox(
+                (int) Math.floor(centerX - radius), (int) Math.floor(centerY - radius), (int) Math.floor(centerZ - radius),
+                (int) Math.floor(centerX + radius), (int) Math.floor(centerY + radius), (int) Math.floor(centerZ + radius),
+                blockStorage -> {
+                    Vector pos = blockStorage.getPos();
+                    double dx = pos.getBlockX() + 0.5 - centerX;
+                    double dy = pos.getBlockY() + 0.5 - centerY;
+                    double dz = pos.getBlockZ() + 0.5 - centerZ;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                        consumer.accept(blockStorage);
+                    }
+                }
+        );
     }
 
     protected Optional<PersistentDataContainer> getWorldContainer() {
@@ -0,0 +1,176 @@
+package com.wolfyscript.utilities.collection;
+
+import java.util.Collection;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe variant of the {@link LongObjectMap}.<br>
+ * All the operations are guarded by a read-write lock, so any amount of threads can read at the same time,
+ * while writes get exclusive access.<br>
+ * <br>
+ * Null values are not supported. Putting a null value is the same as removing the key.
+ *
+ * @param <V> The type of the values.
+ */
+public class ConcurrentLongObjectMap<V> {
+
+    private final LongObjectMap<V> map;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    public ConcurrentLongObjectMap() {
+        this(new LongObjectMap<>());
+    }
+
+    private ConcurrentLongObjectMap(LongObjectMap<V> map) {
+        this.map = map;
+        var lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    public int size() {
+        readLock.lock();
+        try {
+            return map.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        readLock.lock();
+        try {
+            return map.containsKey(key);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#get(long)
+     */
+    @Nullable
+    public V get(long key) {
+        readLock.lock();
+        try {
+            return map.get(key);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#put(long, Object)
+     */
+    @Nullable
+    public V put(long key, @Nullable V value) {
+        writeLock.lock();
+        try {
+            return map.put(key, value);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#putIfAbsent(long, Object)
+     */
+    @Nullable
+    public V putIfAbsent(long key, @NotNull V value) {
+        writeLock.lock();
+        try {
+            return map.putIfAbsent(key, value);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the value of the specified key, or computes and puts a new value if there is none.<br>
+     * The mapping function is called while holding the write lock, so it should be fast.
+     *
+     * @see LongObjectMap#computeIfAbsent(long, LongFunction)
+     */
+    public V computeIfAbsent(long key, @NotNull LongFunction<V> mappingFunction) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        writeLock.lock();
+        try {
+            return map.computeIfAbsent(key, mappingFunction);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#remove(long)
+     */
+    @Nullable
+    public V remove(long key) {
+        writeLock.lock();
+        try {
+            return map.remove(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            map.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Calls the consumer for each entry of this map, while holding the read lock.<br>
+     * The consumer must not modify this map!
+     *
+     * @param consumer The consumer to call for each entry.
+     */
+    public void forEach(@NotNull LongObjectMap.EntryConsumer<V> consumer) {
+        readLock.lock();
+        try {
+            map.forEach(consumer);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#keys()
+     */
+    public long[] keys() {
+        readLock.lock();
+        try {
+            return map.keys();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @see LongObjectMap#values()
+     */
+    public Collection<V> values() {
+        readLock.lock();
+        try {
+            return map.values();
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
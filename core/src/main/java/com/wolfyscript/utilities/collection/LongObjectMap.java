@@ -0,0 +1,285 @@
+package com.wolfyscript.utilities.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A hash map that uses primitive long keys and open addressing with linear probing.<br>
+ * This prevents the boxing of the keys and the allocation of entry objects, that the {@link java.util.HashMap} requires.<br>
+ * <br>
+ * Null values are not supported. Putting a null value is the same as removing the key.<br>
+ * <b>This map is not thread-safe!</b>
+ *
+ * @param <V> The type of the values.
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new map that can hold the expected amount of entries without resizing.
+     *
+     * @param expectedSize The expected amount of entries.
+     */
+    public LongObjectMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return Math.max(size, 2);
+    }
+
+    /**
+     * Mixes the bits of the key, so that keys that only differ in the higher bits still spread across the table.
+     *
+     * @param key The key to hash.
+     * @return The mixed hash of the key.
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void allocate(int tableSize) {
+        this.keys = new long[tableSize];
+        this.values = new Object[tableSize];
+        this.mask = tableSize - 1;
+        this.resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the value of the specified key.
+     *
+     * @param key The key of the value.
+     * @return The value of the key; or null if there is no value for the key.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Puts the value for the specified key.
+     *
+     * @param key   The key of the value.
+     * @param value The value to put. If null, the key is removed.
+     * @return The previous value of the key; or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V put(long key, @Nullable V value) {
+        if (value == null) {
+            return remove(key);
+        }
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Puts the value for the specified key, only if the key has no value yet.
+     *
+     * @param key   The key of the value.
+     * @param value The value to put.
+     * @return The existing value of the key; or null if the value was put.
+     */
+    @Nullable
+    public V putIfAbsent(long key, @NotNull V value) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Gets the value of the specified key, or computes and puts a new value if there is none.
+     *
+     * @param key             The key of the value.
+     * @param mappingFunction The function to compute the new value.
+     * @return The existing or newly computed value.
+     */
+    public V computeIfAbsent(long key, @NotNull LongFunction<V> mappingFunction) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value of the specified key.
+     *
+     * @param key The key to remove.
+     * @return The previous value of the key; or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        shiftBack(index);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes the entry at the specified index and shifts following entries of the same probe sequence back,
+     * so lookups stay correct without the use of tombstones.
+     *
+     * @param index The index of the entry to remove.
+     */
+    private void shiftBack(int index) {
+        int gap = index;
+        int current = (index + 1) & mask;
+        while (values[current] != null) {
+            int home = hash(keys[current]) & mask;
+            // Move the entry into the gap, if its home slot is not located between the gap and its current slot.
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void rehash(int tableSize) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(tableSize);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Calls the consumer for each entry of this map.<br>
+     * The map must not be modified while iterating.
+     *
+     * @param consumer The consumer to call for each entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull EntryConsumer<V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Creates a new array of all keys in this map.
+     *
+     * @return The keys of this map.
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int j = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new collection of all values in this map.
+     *
+     * @return The values of this map.
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<V> values() {
+        Collection<V> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long key, V value);
+
+    }
+}
@@ -28,26 +28,48 @@ import me.wolfyscript.utilities.api.inventory.custom_items.actions.Data;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.Event;
 import me.wolfyscript.utilities.util.NamespacedKey;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class ActionSettings {
 
+    private static final Event<?>[] EMPTY_EVENTS = new Event<?>[0];
+
     @JsonIgnore
     private Multimap<NamespacedKey, Event<?>> indexedEvents;
+    /**
+     * The events grouped by their key and data type, so calling an event doesn't need to filter the events each time.
+     */
+    @JsonIgnore
+    private Map<NamespacedKey, Map<Class<?>, Event<?>[]>> dispatchTable;
 
     public ActionSettings() {
         this.indexedEvents = HashMultimap.create();
+        this.dispatchTable = Map.of();
     }
 
     @JsonSetter("events")
     public void setEvents(List<Event<?>> events) {
-        indexedEvents = HashMultimap.create();
+        Multimap<NamespacedKey, Event<?>> indexed = HashMultimap.create();
         for (Event<?> event : events) {
-            indexedEvents.put(event.getNamespacedKey(), event);
+            indexed.put(event.getNamespacedKey(), event);
         }
+        Map<NamespacedKey, Map<Class<?>, Event<?>[]>> table = new HashMap<>();
+        indexed.asMap().forEach((key, keyEvents) -> {
+            Map<Class<?>, List<Event<?>>> byDataType = new HashMap<>();
+            for (Event<?> event : keyEvents) {
+                byDataType.computeIfAbsent(event.getDataType(), dataType -> new ArrayList<>()).add(event);
+            }
+            Map<Class<?>, Event<?>[]> arrays = new HashMap<>();
+            byDataType.forEach((dataType, typeEvents) -> arrays.put(dataType, typeEvents.toArray(new Event<?>[0])));
+            table.put(key, arrays);
+        });
+        this.indexedEvents = indexed;
+        this.dispatchTable = table;
     }
 
     @JsonGetter("events")
@@ -56,10 +78,34 @@ public class ActionSettings {
     }
 
     public <T extends Data> List<Event<T>> getEvents(NamespacedKey key, Class<T> dataType) {
-        return indexedEvents.get(key).stream().filter(actionEvent -> dataType.equals(actionEvent.getDataType())).map(actionEvent -> (Event<T>) actionEvent).collect(Collectors.toList());
+        Event<?>[] events = getEventArray(key, dataType);
+        return events.length == 0 ? List.of() : List.of((Event<T>[]) events);
+    }
+
+    /**
+     * Checks if there are any events of the specified key.<br>
+     * Listeners should check this before constructing the {@link Data} of an event, as most items don't have any events.
+     *
+     * @param key The key of the event.
+     * @return true if there is at least one event with that key; false otherwise.
+     */
+    public boolean hasEvents(NamespacedKey key) {
+        return dispatchTable.containsKey(key);
     }
 
     public <T extends Data> void callEvent(NamespacedKey key, T data) {
-        getEvents(key, (Class<T>) data.getClass()).forEach(event -> event.call(WolfyUtilCore.getInstance(), data));
+        Event<?>[] events = getEventArray(key, data.getClass());
+        if (events.length == 0) return;
+        WolfyUtilCore core = WolfyUtilCore.getInstance();
+        for (Event<?> event : events) {
+            ((Event<T>) event).call(core, data);
+        }
+    }
+
+    private Event<?>[] getEventArray(NamespacedKey key, Class<?> dataType) {
+        Map<Class<?>, Event<?>[]> byDataType = dispatchTable.get(key);
+        if (byDataType == null) return EMPTY_EVENTS;
+        Event<?>[] events = byDataType.get(dataType);
+        return events != null ? events : EMPTY_EVENTS;
     }
 }
@@ -82,10 +82,13 @@ public enum ArmorType {
     public static ArmorType matchType(final ItemStack itemStack, final CustomItem customItem, final PlayerInventory playerInventory) {
         if (!ItemUtils.isAirOrNull(customItem) && customItem.hasEquipmentSlot()) {
             if (playerInventory == null) return getBySlot(customItem.getEquipmentSlots().get(0));
-            var armorType = customItem.getEquipmentSlots().stream().map(ArmorType::getBySlot).filter(type -> ItemUtils.isAirOrNull(playerInventory.getItem(type.getSlot()))).findFirst().orElse(null);
-            if (armorType != null) {
-                return armorType;
-            }else if(customItem.isBlockVanillaEquip()){
+            for (EquipmentSlot slot : customItem.getEquipmentSlots()) {
+                var armorType = getBySlot(slot);
+                if (armorType != null && ItemUtils.isAirOrNull(playerInventory.getItem(armorType.getSlot()))) {
+                    return armorType;
+                }
+            }
+            if(customItem.isBlockVanillaEquip()){
                 return null;
             }
         }
@@ -34,6 +34,8 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Streams;
 import com.wolfyscript.utilities.bukkit.items.CustomBlockSettings;
+import de.tr7zw.changeme.nbtapi.NBTCompound;
+import de.tr7zw.changeme.nbtapi.NBTItem;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.api.WolfyUtilities;
 import me.wolfyscript.utilities.api.inventory.custom_items.meta.CustomItemTagMeta;
@@ -42,6 +44,8 @@ import me.wolfyscript.utilities.api.inventory.custom_items.meta.MetaSettings;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.VanillaRef;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.WolfyUtilitiesRef;
+import me.wolfyscript.utilities.api.nms.ItemDataUtil;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
 import me.wolfyscript.utilities.registry.Registries;
 import me.wolfyscript.utilities.util.Keyed;
 import me.wolfyscript.utilities.util.NamespacedKey;
@@ -72,6 +76,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>
@@ -92,6 +97,10 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
 
     public static final org.bukkit.NamespacedKey PERSISTENT_KEY_TAG = new org.bukkit.NamespacedKey(WolfyUtilities.getWUPlugin(), "custom_item");
     private static final Map<String, APIReference.Parser<?>> API_REFERENCE_PARSER = new HashMap<>();
+    /**
+     * The distinct parsers sorted by their priority. Rebuilt whenever a parser is registered.
+     */
+    private static volatile APIReference.Parser<?>[] SORTED_API_REFERENCE_PARSERS = new APIReference.Parser<?>[0];
 
     @Nullable
     public static APIReference.Parser<?> getApiReferenceParser(String id) {
@@ -114,6 +123,16 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
         if (!parser.getAliases().isEmpty()) {
             parser.getAliases().forEach(s -> API_REFERENCE_PARSER.putIfAbsent(s, parser));
         }
+        SORTED_API_REFERENCE_PARSERS = API_REFERENCE_PARSER.values().stream().distinct().sorted().toArray(APIReference.Parser<?>[]::new);
+    }
+
+    /**
+     * Gets all the registered {@link APIReference.Parser}s in the order they are called in {@link #getReferenceByItemStack(ItemStack)}.
+     *
+     * @return The registered parsers sorted by their priority.
+     */
+    public static List<APIReference.Parser<?>> getApiReferenceParsers() {
+        return List.of(SORTED_API_REFERENCE_PARSERS);
     }
 
     @JsonIgnore
@@ -335,7 +354,19 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
      */
     public static CustomItem getReferenceByItemStack(ItemStack itemStack) {
         if (itemStack != null) {
-            APIReference apiReference = API_REFERENCE_PARSER.values().stream().sorted(APIReference.Parser::compareTo).map(parser -> parser.construct(itemStack)).filter(Objects::nonNull).findFirst().orElse(null);
+            APIReference apiReference = null;
+            Set<String> tagKeys = null;
+            for (APIReference.Parser<?> parser : SORTED_API_REFERENCE_PARSERS) {
+                Set<String> markerKeys = parser.getMarkerKeys();
+                if (!markerKeys.isEmpty()) {
+                    if (tagKeys == null) {
+                        tagKeys = getTopLevelTagKeys(itemStack); // Only read once, and only if required.
+                    }
+                    if (!containsAny(tagKeys, markerKeys)) continue;
+                }
+                apiReference = parser.probe(itemStack);
+                if (apiReference != null) break;
+            }
             if (apiReference != null) {
                 apiReference.setAmount(itemStack.getAmount());
                 return new CustomItem(apiReference);
@@ -345,6 +376,24 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
         return null;
     }
 
+    /**
+     * Reads the top-level NBT keys of the item. If available, the {@link ItemDataUtil} reads them directly from the item, without copying it.
+     */
+    private static Set<String> getTopLevelTagKeys(ItemStack itemStack) {
+        if (ItemUtils.isAirOrNull(itemStack) || !itemStack.hasItemMeta()) return Set.of(); // Items without meta have no tag.
+        WolfyUtilCore core = WolfyUtilCore.getInstance();
+        NMSUtil nmsUtil = core != null && core.getWolfyUtils() != null ? core.getWolfyUtils().getNmsUtil() : null;
+        NBTCompound nbt = nmsUtil != null ? nmsUtil.getItemDataUtil().getNBTCompound(itemStack) : new NBTItem(itemStack);
+        return nbt != null ? nbt.getKeys() : Set.of();
+    }
+
+    private static boolean containsAny(Set<String> keys, Set<String> markerKeys) {
+        for (String markerKey : markerKeys) {
+            if (keys.contains(markerKey)) return true;
+        }
+        return false;
+    }
+
     /**
      * This method returns the original CustomItem from the ItemStack.
      * This only works if the itemStack contains a NamespacedKey corresponding to a CustomItem
@@ -386,6 +435,7 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
 
     public void setNamespacedKey(NamespacedKey namespacedKey) {
         this.namespacedKey = namespacedKey;
+        onItemModified();
     }
 
     /**
@@ -656,7 +706,9 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
 
     /**
      * Other than {@link #create()} it returns the real item and no copy!
-     * Any changes made to this item may change the source Item!
+     * Any changes made to this item may change the source Item!<br>
+     * References to this item (See {@link WolfyUtilitiesRef}) and the compiled meta checks only notice changes made via the builder methods, not changes made to the returned item directly
+     * (See {@link VanillaRef#markLinkedItemModified()}).
      *
      * @return the linked item of the API reference
      */
@@ -1226,6 +1278,23 @@ public class CustomItem extends AbstractItemBuilder<CustomItem> implements Keyed
      */
     public void setAmount(int amount) {
         getApiReference().setAmount(amount);
+        onItemModified();
+    }
+
+    /**
+     * Marks the item of a {@link VanillaRef} as modified, and invalidates the linked item templates (See {@link APIReference#invalidateLinkedItemTemplates()})
+     * if this item is registered, so references to it no longer use the outdated item.
+     */
+    @Override
+    protected void onItemModified() {
+        if (apiReference instanceof VanillaRef vanillaRef) {
+            vanillaRef.markLinkedItemModified();
+        }
+        if (namespacedKey == null) return;
+        WolfyUtilCore core = WolfyUtilCore.getInstance();
+        if (core != null && core.getRegistries().getCustomItems().get(namespacedKey) == this) {
+            APIReference.invalidateLinkedItemTemplates();
+        }
     }
 
     @Override
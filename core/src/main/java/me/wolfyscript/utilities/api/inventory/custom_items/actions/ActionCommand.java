@@ -20,14 +20,13 @@ package me.wolfyscript.utilities.api.inventory.custom_items.actions;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import me.wolfyscript.utilities.api.WolfyUtilCore;
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.Action;
 import me.wolfyscript.utilities.api.inventory.custom_items.actions.DataPlayer;
 import me.wolfyscript.utilities.compatibility.plugins.PlaceholderAPIIntegration;
 import me.wolfyscript.utilities.util.NamespacedKey;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class ActionCommand extends Action<DataPlayer> {
@@ -36,8 +35,25 @@ public class ActionCommand extends Action<DataPlayer> {
 
     @JsonIgnore
     private final PlaceholderAPIIntegration papi;
-    private List<String> playerCommands = new ArrayList<>();
-    private List<String> consoleCommands = new ArrayList<>();
+    /**
+     * The commands are immutable, so they cannot contain placeholders, that were not detected when they were set.
+     */
+    private List<String> playerCommands = List.of();
+    private List<String> consoleCommands = List.of();
+    /**
+     * The amount of ticks this action is rate limited for each player and item, after it was executed.
+     */
+    private int cooldown = 0;
+    /**
+     * If the placeholders of the commands may be expanded off the main thread.
+     * Only enable this when all the used placeholders are thread-safe!
+     */
+    private boolean asyncPlaceholders = false;
+    /**
+     * If any of the commands contain placeholders. Commands without placeholders are dispatched as is.
+     */
+    @JsonIgnore
+    private boolean placeholders = false;
 
     public ActionCommand() {
         super(KEY, DataPlayer.class);
@@ -47,29 +63,71 @@ public class ActionCommand extends Action<DataPlayer> {
     @Override
     public void execute(WolfyUtilCore core, DataPlayer data) {
         final Player player = data.getPlayer();
-        List<String> resultPlayerCmds = playerCommands;
-        List<String> resultConsoleCmds = consoleCommands;
-        if (papi != null) {
-            resultPlayerCmds = papi.setPlaceholders(player, papi.setBracketPlaceholders(player, playerCommands));
-            resultConsoleCmds = papi.setPlaceholders(player, papi.setBracketPlaceholders(player, consoleCommands));
+        CustomItem customItem = data.getCustomItem();
+        if (!ActionCommandScheduler.tryAcquire(this, player, customItem != null ? customItem.getNamespacedKey() : null, cooldown)) return;
+        if (!placeholders) {
+            ActionCommandScheduler.submit(player, playerCommands, consoleCommands);
+            return;
+        }
+        if (asyncPlaceholders) {
+            ActionCommandScheduler.submitAsync(player, () -> List.of(expand(player, playerCommands), expand(player, consoleCommands)));
+            return;
+        }
+        ActionCommandScheduler.submit(player, expand(player, playerCommands), expand(player, consoleCommands));
+    }
+
+    private List<String> expand(Player player, List<String> commands) {
+        return papi.setPlaceholders(player, papi.setBracketPlaceholders(player, commands));
+    }
+
+    private void updatePlaceholders() {
+        placeholders = papi != null && (containsPlaceholders(playerCommands) || containsPlaceholders(consoleCommands));
+    }
+
+    private boolean containsPlaceholders(List<String> commands) {
+        for (String command : commands) {
+            if (papi.containsPlaceholders(command) || papi.containsBracketPlaceholders(command)) return true;
         }
-        resultPlayerCmds.forEach(player::performCommand);
-        resultConsoleCmds.forEach(cmd -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd));
+        return false;
     }
 
+    /**
+     * @return An unmodifiable list of the console commands. Use {@link #setConsoleCommands(List)} to change them.
+     */
     public List<String> getConsoleCommands() {
-        return List.copyOf(consoleCommands);
+        return consoleCommands;
     }
 
     public void setConsoleCommands(List<String> consoleCommands) {
-        this.consoleCommands = consoleCommands;
+        this.consoleCommands = List.copyOf(consoleCommands);
+        updatePlaceholders();
     }
 
+    /**
+     * @return An unmodifiable list of the player commands. Use {@link #setPlayerCommands(List)} to change them.
+     */
     public List<String> getPlayerCommands() {
-        return List.copyOf(playerCommands);
+        return playerCommands;
     }
 
     public void setPlayerCommands(List<String> playerCommands) {
-        this.playerCommands = playerCommands;
+        this.playerCommands = List.copyOf(playerCommands);
+        updatePlaceholders();
+    }
+
+    public int getCooldown() {
+        return cooldown;
+    }
+
+    public void setCooldown(int cooldown) {
+        this.cooldown = cooldown;
+    }
+
+    public boolean isAsyncPlaceholders() {
+        return asyncPlaceholders;
+    }
+
+    public void setAsyncPlaceholders(boolean asyncPlaceholders) {
+        this.asyncPlaceholders = asyncPlaceholders;
     }
 }
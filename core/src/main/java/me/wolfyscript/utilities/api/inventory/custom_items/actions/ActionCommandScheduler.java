@@ -0,0 +1,284 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.wolfyscript.utilities.api.inventory.custom_items.actions;
+
+import me.wolfyscript.utilities.util.NamespacedKey;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Dispatches the commands of {@link ActionCommand}s.<br>
+ * <br>
+ * Instead of dispatching the commands right away in the event that triggered the action, the commands are queued and dispatched once per tick.
+ * Identical commands of the same sender, that are queued within the same tick, are only dispatched once.<br>
+ * Actions can be rate limited per player and item (See {@link #tryAcquire(ActionCommand, Player, NamespacedKey, int)}),
+ * and placeholders can be expanded off the main thread (See {@link #submitAsync(Player, Supplier)}).<br>
+ * <br>
+ * If the scheduler is not started (e.g. in tests), then commands are dispatched right away.
+ */
+public final class ActionCommandScheduler {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50);
+    /**
+     * Expired rate limits are removed every 60 seconds.
+     */
+    private static final int RATE_LIMIT_CLEANUP_INTERVAL = 1200;
+
+    private static final Queue<QueuedCommand> queue = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger queueDepth = new AtomicInteger();
+    /**
+     * The time (in nanos) until which an action is rate limited. Only accessed on the main thread.
+     */
+    private static final Map<RateLimit, Long> rateLimits = new HashMap<>();
+    private static final LongAdder submitted = new LongAdder();
+    private static final LongAdder dispatched = new LongAdder();
+    private static final LongAdder coalesced = new LongAdder();
+    private static final LongAdder rateLimited = new LongAdder();
+    private static volatile int maxQueueDepth;
+
+    /**
+     * Guards the state of the task against the placeholder thread, so it cannot queue commands after the scheduler was stopped.
+     */
+    private static final Object lifecycleLock = new Object();
+    private static volatile BukkitTask task;
+    private static volatile ExecutorService placeholderExecutor;
+    private static volatile Plugin owner;
+    private static int ticks;
+
+    private ActionCommandScheduler() {
+    }
+
+    /**
+     * Starts the task that dispatches the queued commands each tick.
+     *
+     * @param plugin The plugin that owns the task.
+     */
+    public static void start(Plugin plugin) {
+        if (task != null) return;
+        owner = plugin;
+        placeholderExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "WolfyUtils Command Placeholders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        task = Bukkit.getScheduler().runTaskTimer(plugin, ActionCommandScheduler::tick, 1, 1);
+    }
+
+    /**
+     * Stops the task and dispatches the commands that are still queued.
+     */
+    public static void stop() {
+        synchronized (lifecycleLock) {
+            if (task == null) return;
+            task.cancel();
+            task = null;
+        }
+        // Commands expanded from now on are discarded, while the commands that were queued before are dispatched below.
+        placeholderExecutor.shutdownNow();
+        placeholderExecutor = null;
+        dispatchQueued();
+        rateLimits.clear();
+    }
+
+    /**
+     * Checks if the action may be executed for the player and item, and if so, rate limits it for the specified amount of ticks.<br>
+     * <b>Must be called on the main thread!</b>
+     *
+     * @param action   The action to execute.
+     * @param player   The player that executes the action.
+     * @param itemKey  The key of the item that triggered the action; or null if it has none.
+     * @param cooldown The amount of ticks the action is rate limited for, after it was executed.
+     * @return true if the action may be executed; false if it is still rate limited.
+     */
+    public static boolean tryAcquire(ActionCommand action, Player player, @Nullable NamespacedKey itemKey, int cooldown) {
+        if (cooldown <= 0) return true;
+        var key = new RateLimit(action, player.getUniqueId(), itemKey);
+        long now = System.nanoTime();
+        Long limitedUntil = rateLimits.get(key);
+        if (limitedUntil != null && limitedUntil - now > 0) {
+            rateLimited.increment();
+            return false;
+        }
+        rateLimits.put(key, now + cooldown * NANOS_PER_TICK);
+        return true;
+    }
+
+    /**
+     * Queues the commands, that were already expanded, to be dispatched within the next tick.
+     *
+     * @param player          The player that performs the player commands.
+     * @param playerCommands  The commands performed by the player.
+     * @param consoleCommands The commands dispatched by the console.
+     */
+    public static void submit(Player player, List<String> playerCommands, List<String> consoleCommands) {
+        if (task == null) {
+            playerCommands.forEach(player::performCommand);
+            consoleCommands.forEach(cmd -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd));
+            int count = playerCommands.size() + consoleCommands.size();
+            submitted.add(count);
+            dispatched.add(count);
+            return;
+        }
+        enqueueAll(player.getUniqueId(), playerCommands, consoleCommands);
+    }
+
+    /**
+     * Expands the commands off the main thread and queues them afterwards.<br>
+     * Only use this when the placeholders are thread-safe!<br>
+     * The expanded commands are only ever queued, and never dispatched from the placeholder thread.
+     * Commands that are expanded after the scheduler was stopped are discarded.
+     *
+     * @param player   The player that performs the player commands.
+     * @param expander Expands the placeholders and returns the player commands and console commands, in that order.
+     */
+    public static void submitAsync(Player player, Supplier<List<List<String>>> expander) {
+        ExecutorService executor = placeholderExecutor;
+        if (task == null || executor == null) {
+            List<List<String>> commands = expander.get();
+            submit(player, commands.get(0), commands.get(1));
+            return;
+        }
+        UUID uuid = player.getUniqueId();
+        Plugin plugin = owner;
+        CompletableFuture.supplyAsync(expander, executor).thenAccept(commands -> {
+            synchronized (lifecycleLock) {
+                if (task == null) return; // Stopped in the meantime, so the queue is no longer dispatched.
+                enqueueAll(uuid, commands.get(0), commands.get(1));
+            }
+        }).exceptionally(throwable -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            plugin.getLogger().log(Level.SEVERE, "Failed to expand the placeholders of the commands of player " + uuid + "! The commands are not dispatched.", cause);
+            return null;
+        });
+    }
+
+    private static void enqueueAll(UUID player, List<String> playerCommands, List<String> consoleCommands) {
+        for (String command : playerCommands) {
+            enqueue(new QueuedCommand(player, command));
+        }
+        for (String command : consoleCommands) {
+            enqueue(new QueuedCommand(null, command));
+        }
+    }
+
+    private static void enqueue(QueuedCommand command) {
+        queue.add(command);
+        submitted.increment();
+        int depth = queueDepth.incrementAndGet();
+        if (depth > maxQueueDepth) {
+            maxQueueDepth = depth;
+        }
+    }
+
+    private static void tick() {
+        dispatchQueued();
+        if (++ticks % RATE_LIMIT_CLEANUP_INTERVAL == 0) {
+            long now = System.nanoTime();
+            rateLimits.values().removeIf(limitedUntil -> limitedUntil - now <= 0);
+        }
+    }
+
+    /**
+     * Dispatches the queued commands. Identical commands of the same sender are only dispatched once.
+     */
+    private static void dispatchQueued() {
+        if (queue.isEmpty()) return;
+        Set<QueuedCommand> commands = new LinkedHashSet<>();
+        QueuedCommand command;
+        while ((command = queue.poll()) != null) {
+            queueDepth.decrementAndGet();
+            if (!commands.add(command)) {
+                coalesced.increment();
+            }
+        }
+        for (QueuedCommand queued : commands) {
+            if (queued.player() == null) {
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), queued.command());
+            } else {
+                Player player = Bukkit.getPlayer(queued.player());
+                if (player == null) continue; // The player left in the meantime.
+                player.performCommand(queued.command());
+            }
+            dispatched.increment();
+        }
+    }
+
+    /**
+     * @return The amount of commands that are currently queued.
+     */
+    public static int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return The maximum amount of commands that were queued at the same time.
+     */
+    public static int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public static long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public static long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return The amount of commands that were skipped, because an identical command was queued within the same tick.
+     */
+    public static long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return The amount of action executions that were skipped, because they were rate limited.
+     */
+    public static long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * A command of a player; or of the console if the player is null.
+     */
+    private record QueuedCommand(@Nullable UUID player, String command) { }
+
+    private record RateLimit(ActionCommand action, UUID player, @Nullable NamespacedKey itemKey) { }
+}
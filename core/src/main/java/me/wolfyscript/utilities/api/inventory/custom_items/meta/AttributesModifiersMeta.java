@@ -45,11 +45,21 @@ public class AttributesModifiersMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta metaOther = itemOther.getItemMeta();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
         ItemMeta meta = item.getItemMeta();
-        if (meta.hasAttributeModifiers()) {
-            return metaOther.hasAttributeModifiers() && compareModifiers(meta.getAttributeModifiers(), metaOther.getAttributeModifiers());
+        Multimap<Attribute, AttributeModifier> modifiers = meta.hasAttributeModifiers() ? meta.getAttributeModifiers() : null;
+        if (modifiers != null) {
+            return (itemOther, metaOther) -> metaOther.hasAttributeModifiers() && compareModifiers(modifiers, metaOther.getAttributeModifiers());
         }
-        return !metaOther.hasAttributeModifiers();
+        return (itemOther, metaOther) -> !metaOther.hasAttributeModifiers();
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_COLLECTION;
     }
 }
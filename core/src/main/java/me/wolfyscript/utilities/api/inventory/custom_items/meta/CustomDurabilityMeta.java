@@ -21,6 +21,7 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.inventory.meta.ItemMeta;
 
 public class CustomDurabilityMeta extends Meta {
 
@@ -33,15 +34,26 @@ public class CustomDurabilityMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        boolean meta0 = item.hasCustomDurability();
-        boolean meta1 = itemOther.hasCustomDurability();
-        if (meta0 && meta1) {
-            return switch (option) {
-                case EXACT -> itemOther.getCustomDurability() == item.getCustomDurability();
-                case LOWER -> itemOther.getCustomDurability() < item.getCustomDurability();
-                case HIGHER -> itemOther.getCustomDurability() > item.getCustomDurability();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        ItemMeta meta = item.getItemMeta();
+        if (item.hasCustomDurability(meta)) {
+            int value = item.getCustomDurability(meta);
+            return (itemOther, metaOther) -> itemOther.hasCustomDurability(metaOther) && switch (option) {
+                case EXACT -> itemOther.getCustomDurability(metaOther) == value;
+                case LOWER -> itemOther.getCustomDurability(metaOther) < value;
+                case HIGHER -> itemOther.getCustomDurability(metaOther) > value;
                 default -> false;
             };
-        } else return !meta0 && !meta1;
+        }
+        return (itemOther, metaOther) -> !itemOther.hasCustomDurability(metaOther);
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 }
@@ -47,12 +47,21 @@ public class CustomItemTagMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
         var key = item.getNamespacedKey();
-        var keyOther = CustomItem.getKeyOfItemMeta(itemOther.getItemMeta());
         if (key != null) {
-            return keyOther != null && Objects.equals(key, keyOther);
+            return (itemOther, metaOther) -> Objects.equals(key, CustomItem.getKeyOfItemMeta(metaOther));
         }
-        return keyOther == null;
+        return (itemOther, metaOther) -> CustomItem.getKeyOfItemMeta(metaOther) == null;
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 
 }
@@ -22,7 +22,6 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class CustomModelDataMeta extends Meta {
 
@@ -35,12 +34,22 @@ public class CustomModelDataMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta meta1 = itemOther.getItemMeta();
-        ItemMeta meta2 = item.getItemMeta();
-        return switch (option) {
-            case LOWER -> meta1.getCustomModelData() < meta2.getCustomModelData();
-            case HIGHER -> meta1.getCustomModelData() > meta2.getCustomModelData();
-            default -> false;
-        };
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        if (option != MetaSettings.Option.LOWER && option != MetaSettings.Option.HIGHER) {
+            return (itemOther, metaOther) -> false;
+        }
+        int customModelData = item.getItemMeta().getCustomModelData();
+        return option == MetaSettings.Option.LOWER ?
+                (itemOther, metaOther) -> metaOther.getCustomModelData() < customModelData :
+                (itemOther, metaOther) -> metaOther.getCustomModelData() > customModelData;
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 }
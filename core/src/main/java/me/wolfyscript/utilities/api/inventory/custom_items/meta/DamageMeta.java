@@ -22,7 +22,6 @@ import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
 import org.bukkit.inventory.meta.Damageable;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class DamageMeta extends Meta {
 
@@ -35,13 +34,25 @@ public class DamageMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta metaOther = itemOther.getItemMeta();
-        ItemMeta meta = item.getItemMeta();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        if (option != MetaSettings.Option.EXACT && option != MetaSettings.Option.LOWER && option != MetaSettings.Option.HIGHER) {
+            return (itemOther, metaOther) -> false;
+        }
+        int damage = ((Damageable) item.getItemMeta()).getDamage();
         return switch (option) {
-            case EXACT -> ((Damageable) metaOther).getDamage() == ((Damageable) meta).getDamage();
-            case LOWER -> ((Damageable) metaOther).getDamage() < ((Damageable) meta).getDamage();
-            case HIGHER -> ((Damageable) metaOther).getDamage() > ((Damageable) meta).getDamage();
-            default -> false;
+            case EXACT -> (itemOther, metaOther) -> ((Damageable) metaOther).getDamage() == damage;
+            case LOWER -> (itemOther, metaOther) -> ((Damageable) metaOther).getDamage() < damage;
+            case HIGHER -> (itemOther, metaOther) -> ((Damageable) metaOther).getDamage() > damage;
+            default -> (itemOther, metaOther) -> false;
         };
     }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
+    }
 }
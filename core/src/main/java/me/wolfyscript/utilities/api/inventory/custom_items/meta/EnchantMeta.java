@@ -22,8 +22,11 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.Map;
+
 public class EnchantMeta extends Meta {
 
     public static final NamespacedKey KEY = NamespacedKey.wolfyutilties("enchant");
@@ -34,10 +37,21 @@ public class EnchantMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta metaOther = itemOther.getItemMeta();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
         ItemMeta meta = item.getItemMeta();
         if (meta.hasEnchants()) {
-            return metaOther.hasEnchants() && meta.getEnchants().equals(metaOther.getEnchants());
-        } else return !metaOther.hasEnchants();
+            Map<Enchantment, Integer> enchants = meta.getEnchants();
+            return (itemOther, metaOther) -> metaOther.hasEnchants() && enchants.equals(metaOther.getEnchants());
+        }
+        return (itemOther, metaOther) -> !metaOther.hasEnchants();
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_COLLECTION;
     }
 }
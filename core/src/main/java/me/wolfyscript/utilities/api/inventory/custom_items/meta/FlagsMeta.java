@@ -21,6 +21,9 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.inventory.ItemFlag;
+
+import java.util.Set;
 
 public class FlagsMeta extends Meta {
 
@@ -32,6 +35,17 @@ public class FlagsMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        return itemOther.getItemMeta().getItemFlags().containsAll(item.getItemMeta().getItemFlags());
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        Set<ItemFlag> flags = item.getItemMeta().getItemFlags();
+        return (itemOther, metaOther) -> metaOther.getItemFlags().containsAll(flags);
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_COLLECTION;
     }
 }
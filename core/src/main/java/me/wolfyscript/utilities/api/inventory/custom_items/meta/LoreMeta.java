@@ -23,6 +23,7 @@ import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
 
+import java.util.List;
 import java.util.Objects;
 
 public class LoreMeta extends Meta {
@@ -35,6 +36,17 @@ public class LoreMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        return Objects.equals(item.getItemMeta().getLore(), itemOther.getItemMeta().getLore());
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        List<String> lore = item.getItemMeta().getLore();
+        return (itemOther, metaOther) -> Objects.equals(lore, metaOther.getLore());
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_COLLECTION;
     }
 }
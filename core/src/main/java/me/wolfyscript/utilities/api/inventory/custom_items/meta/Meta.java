@@ -32,6 +32,7 @@ import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
 import me.wolfyscript.utilities.util.json.jackson.JacksonUtil;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeIdResolver;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeResolver;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.InvocationTargetException;
@@ -46,11 +47,26 @@ import java.util.Objects;
 @JsonPropertyOrder("key")
 public abstract class Meta implements Keyed {
 
+    /**
+     * Cost of checks, that only compare single values of the ItemMeta.
+     */
+    protected static final int COST_VALUE = 0;
+    /**
+     * Cost of checks, that compare collections of the ItemMeta, like the lore or enchantments.
+     */
+    protected static final int COST_COLLECTION = 1;
+    /**
+     * Cost of checks, that need to read the NBT of the item, or clone the ItemMeta themselves.
+     */
+    protected static final int COST_EXPENSIVE = 2;
+
     private final NamespacedKey key;
 
     protected MetaSettings.Option option = MetaSettings.Option.EXACT;
     @JsonIgnore
     private List<MetaSettings.Option> availableOptions = List.of(MetaSettings.Option.EXACT);
+    @JsonIgnore
+    private transient int modificationCount = 0;
 
     protected Meta(NamespacedKey key) {
         this.key = key;
@@ -62,6 +78,25 @@ public abstract class Meta implements Keyed {
 
     public void setOption(MetaSettings.Option option) {
         this.option = option;
+        markModified();
+    }
+
+    /**
+     * Marks this check as modified, so the {@link Matcher}s compiled from it are recompiled.<br>
+     * Must be called by each method, that changes a value used by {@link #compile(CustomItem)}.
+     */
+    protected final void markModified() {
+        modificationCount++;
+    }
+
+    /**
+     * Gets the modification count of this check, which changes each time the check is modified (See {@link #markModified()}).
+     *
+     * @return The current modification count.
+     */
+    @JsonIgnore
+    public final int getModificationCount() {
+        return modificationCount;
     }
 
     @JsonIgnore
@@ -86,6 +121,29 @@ public abstract class Meta implements Keyed {
 
     public abstract boolean check(CustomItem item, ItemBuilder itemOther);
 
+    /**
+     * Compiles this check into a {@link Matcher}, that only compares items against the specified reference item.<br>
+     * The values required from the reference item should be extracted once in this method, so the matcher doesn't need to access the reference item again.<br>
+     * <br>
+     * The default implementation calls {@link #check(CustomItem, ItemBuilder)} for each item.
+     *
+     * @param item The reference item to compare the other items to.
+     * @return The matcher that compares the other items to the reference item.
+     */
+    public Matcher compile(CustomItem item) {
+        return (itemOther, metaOther) -> check(item, itemOther);
+    }
+
+    /**
+     * Gets the relative cost of the {@link Matcher} of this check, so the cheapest checks can be run first.<br>
+     * Must be one of {@link #COST_VALUE}, {@link #COST_COLLECTION} or {@link #COST_EXPENSIVE}.
+     *
+     * @return The cost of the check.
+     */
+    protected int getCheckCost() {
+        return COST_EXPENSIVE;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -105,6 +163,25 @@ public abstract class Meta implements Keyed {
         return key;
     }
 
+    /**
+     * Compares items to the reference item, that the matcher was compiled for.
+     *
+     * @see #compile(CustomItem)
+     */
+    @FunctionalInterface
+    public interface Matcher {
+
+        /**
+         * Checks if the other item matches the reference item.
+         *
+         * @param itemOther The item to check.
+         * @param metaOther The ItemMeta of the item to check. It is shared by all checks, so it must not be modified!
+         * @return True if the item matches; otherwise false.
+         */
+        boolean matches(ItemBuilder itemOther, ItemMeta metaOther);
+
+    }
+
     @Deprecated
     public static class Provider<M extends Meta> implements Keyed {
 
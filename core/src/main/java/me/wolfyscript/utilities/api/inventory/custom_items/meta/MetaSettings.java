@@ -22,10 +22,14 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.Preconditions;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -35,6 +39,8 @@ public class MetaSettings {
     public static final String CHECKS_KEY = "checks";
 
     private final List<Meta> checks;
+    @JsonIgnore
+    private volatile CompiledChecks compiled = null;
 
     /**
      * Creates a new settings object with an empty list of checks.
@@ -50,10 +56,12 @@ public class MetaSettings {
         Objects.requireNonNull(meta, "Meta check cannot be null!");
         Preconditions.checkArgument(!meta.getOption().equals(Option.IGNORE), "Deprecated option! Ignored check cannot be added!");
         checks.add(meta);
+        compiled = null;
     }
 
     public void clearChecks() {
         checks.clear();
+        compiled = null;
     }
 
     public List<Meta> getChecks() {
@@ -69,8 +77,71 @@ public class MetaSettings {
         return true;
     }
 
+    /**
+     * Checks if the other item matches the item using all the checks.<br>
+     * The checks are compiled into {@link Meta.Matcher}s for the item. If the {@link APIReference} of the item publishes the version of its linked item
+     * (See {@link APIReference#getLinkedItemVersion()}), they are cached until the item, its reference, the version of the linked item, or the checks change.
+     * Otherwise, they are compiled for each call.<br>
+     * The ItemMeta of the other item is only retrieved once and then shared by all checks, which are run from the cheapest to the most expensive one.
+     *
+     * @param item      The item to compare the other item to.
+     * @param itemOther The other item to check.
+     * @return True if the other item passes all the checks; otherwise false.
+     */
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        return checks.stream().allMatch(meta -> meta.check(item, itemOther));
+        if (checks.isEmpty()) return true;
+        Meta.Matcher[] matchers = compile(item).matchers();
+        ItemMeta metaOther = itemOther.getItemMeta();
+        for (Meta.Matcher matcher : matchers) {
+            if (!matcher.matches(itemOther, metaOther)) return false;
+        }
+        return true;
+    }
+
+    private CompiledChecks compile(CustomItem item) {
+        APIReference reference = item.getApiReference();
+        int linkedItemVersion = reference.getLinkedItemVersion();
+        CompiledChecks current = compiled;
+        if (current != null && current.isValid(item, reference, linkedItemVersion, checks)) {
+            return current;
+        }
+        Meta[] metas = checks.toArray(new Meta[0]);
+        Option[] options = new Option[metas.length];
+        int[] modificationCounts = new int[metas.length];
+        Meta.Matcher[] matchers = new Meta.Matcher[metas.length];
+        Integer[] order = new Integer[metas.length];
+        for (int i = 0; i < metas.length; i++) {
+            options[i] = metas[i].getOption();
+            modificationCounts[i] = metas[i].getModificationCount();
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> metas[i].getCheckCost())); // Stable, so checks of the same cost keep their order.
+        for (int i = 0; i < order.length; i++) {
+            matchers[i] = metas[order[i]].compile(item);
+        }
+        current = new CompiledChecks(item, reference, linkedItemVersion, metas, options, modificationCounts, matchers);
+        if (linkedItemVersion != APIReference.NO_LINKED_ITEM_VERSION) {
+            compiled = current;
+        }
+        return current;
+    }
+
+    /**
+     * The compiled checks for a specific item.<br>
+     * References may return a new copy of the linked ItemStack on each call, so changes of it are detected by the version of the linked item instead.
+     * Changes of the checks themselves are detected by their option and modification count (See {@link Meta#getModificationCount()}).
+     */
+    private record CompiledChecks(CustomItem item, APIReference reference, int linkedItemVersion, Meta[] metas, Option[] options, int[] modificationCounts, Meta.Matcher[] matchers) {
+
+        private boolean isValid(CustomItem item, APIReference reference, int linkedItemVersion, List<Meta> checks) {
+            if (this.item != item || this.reference != reference || this.linkedItemVersion != linkedItemVersion || metas.length != checks.size()) return false;
+            for (int i = 0; i < metas.length; i++) {
+                Meta meta = checks.get(i);
+                if (metas[i] != meta || options[i] != meta.getOption() || modificationCounts[i] != meta.getModificationCount()) return false;
+            }
+            return true;
+        }
+
     }
 
     public enum Option {
@@ -18,21 +18,99 @@
 
 package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 
+import com.wolfyscript.utilities.bukkit.nbt.NBTQuery;
+import de.tr7zw.changeme.nbtapi.NBTCompound;
+import de.tr7zw.changeme.nbtapi.NBTItem;
+import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.api.nms.ItemDataUtil;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Compares the NBT of the items, that is selected by the {@link NBTQuery}.<br>
+ * Only the queried subtree of the items is compared, so other NBT (e.g. the durability or lore) can differ.<br>
+ * If no query is set, all items pass this check.
+ */
 public class NBTTagMeta extends Meta {
 
-    public static final NamespacedKey KEY = NamespacedKey.wolfyutilties("player_head");
+    public static final NamespacedKey KEY = NamespacedKey.wolfyutilties("nbt_tag");
+
+    private NBTQuery query;
 
     public NBTTagMeta() {
         super(KEY);
     }
 
+    @Nullable
+    public NBTQuery getQuery() {
+        return query;
+    }
+
+    public void setQuery(@Nullable NBTQuery query) {
+        this.query = query;
+        markModified();
+    }
+
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        //TODO
-        return true;
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    /**
+     * Runs the query on the reference item once and keeps the NBT of the result.<br>
+     * The NBT of the other items is read directly from the items (See {@link ItemDataUtil#getNBTCompound(ItemStack)}), without copying them,
+     * and then compared directly, which stops at the first key or value that differs.<br>
+     * Air and empty items never match.
+     */
+    @Override
+    public Matcher compile(CustomItem item) {
+        NBTQuery nbtQuery = query;
+        if (nbtQuery == null) {
+            return (itemOther, metaOther) -> true;
+        }
+        ItemDataUtil itemDataUtil = getItemDataUtil();
+        Object expected = queryNBT(itemDataUtil, nbtQuery, item.getItemStack());
+        if (expected == null) {
+            return (itemOther, metaOther) -> false;
+        }
+        return (itemOther, metaOther) -> {
+            Object actual = queryNBT(itemDataUtil, nbtQuery, itemOther.create());
+            return actual != null && actual.equals(expected);
+        };
+    }
+
+    /**
+     * Runs the query on the NBT of the ItemStack.
+     *
+     * @return The NBT compound of the query result; or null if the item is air or empty.
+     */
+    @Nullable
+    private static Object queryNBT(@Nullable ItemDataUtil itemDataUtil, NBTQuery query, @Nullable ItemStack itemStack) {
+        NBTCompound nbt;
+        if (itemDataUtil != null) {
+            nbt = itemDataUtil.getNBTCompound(itemStack);
+        } else {
+            nbt = itemStack == null || itemStack.getType().isAir() || itemStack.getAmount() <= 0 ? null : new NBTItem(itemStack);
+        }
+        return nbt != null ? query.run(nbt).getCompound() : null;
+    }
+
+    /**
+     * @return The ItemDataUtil of the server version; or null if there is none (e.g. not yet initialised).
+     */
+    @Nullable
+    private static ItemDataUtil getItemDataUtil() {
+        WolfyUtilCore core = WolfyUtilCore.getInstance();
+        NMSUtil nmsUtil = core != null && core.getWolfyUtils() != null ? core.getWolfyUtils().getNmsUtil() : null;
+        return nmsUtil != null ? nmsUtil.getItemDataUtil() : null;
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_EXPENSIVE;
     }
 }
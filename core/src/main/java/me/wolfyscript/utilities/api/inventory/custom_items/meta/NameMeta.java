@@ -33,10 +33,21 @@ public class NameMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta metaOther = itemOther.getItemMeta();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
         ItemMeta meta = item.getItemMeta();
         if (meta.hasDisplayName()) {
-            return metaOther.hasDisplayName() && meta.getDisplayName().equals(metaOther.getDisplayName());
-        } else return !metaOther.hasDisplayName();
+            String displayName = meta.getDisplayName();
+            return (itemOther, metaOther) -> metaOther.hasDisplayName() && displayName.equals(metaOther.getDisplayName());
+        }
+        return (itemOther, metaOther) -> !metaOther.hasDisplayName();
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 }
@@ -33,8 +33,17 @@ public class PlayerHeadMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        String valueOther = itemOther.getPlayerHeadValue();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
         String value = item.getPlayerHeadValue();
-        return valueOther.equals(value);
+        return (itemOther, metaOther) -> itemOther.getPlayerHeadValue(metaOther).equals(value);
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_EXPENSIVE;
     }
 }
@@ -22,8 +22,11 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
-import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.Color;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionType;
 
+import java.util.List;
 import java.util.Objects;
 
 public class PotionMeta extends Meta {
@@ -36,27 +39,36 @@ public class PotionMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta meta1 = itemOther.getItemMeta();
-        ItemMeta meta2 = item.getItemMeta();
-        if (meta2 instanceof org.bukkit.inventory.meta.PotionMeta) {
-            if (meta1 instanceof org.bukkit.inventory.meta.PotionMeta) {
-                org.bukkit.inventory.meta.PotionMeta metaThat = (org.bukkit.inventory.meta.PotionMeta) itemOther.getItemMeta();
-                org.bukkit.inventory.meta.PotionMeta metaThis = (org.bukkit.inventory.meta.PotionMeta) item.getItemMeta();
-                if (metaThis.getBasePotionData().getType().equals(metaThat.getBasePotionData().getType())) {
-                    if (metaThis.hasCustomEffects()) {
-                        if (!metaThat.hasCustomEffects() || !metaThis.getCustomEffects().equals(metaThat.getCustomEffects())) {
-                            return false;
-                        }
-                    } else if (metaThat.hasCustomEffects()) {
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        if (item.getItemMeta() instanceof org.bukkit.inventory.meta.PotionMeta metaThis) {
+            PotionType type = metaThis.getBasePotionData().getType();
+            List<PotionEffect> customEffects = metaThis.hasCustomEffects() ? metaThis.getCustomEffects() : null;
+            Color color = metaThis.hasColor() ? metaThis.getColor() : null;
+            return (itemOther, metaOther) -> {
+                if (!(metaOther instanceof org.bukkit.inventory.meta.PotionMeta metaThat) || !type.equals(metaThat.getBasePotionData().getType())) {
+                    return false;
+                }
+                if (customEffects != null) {
+                    if (!metaThat.hasCustomEffects() || !customEffects.equals(metaThat.getCustomEffects())) {
                         return false;
                     }
-                    if (metaThis.hasColor()) {
-                        return metaThat.hasColor() && Objects.equals(metaThis.getColor(), metaThat.getColor());
-                    } else return !metaThat.hasColor();
+                } else if (metaThat.hasCustomEffects()) {
+                    return false;
                 }
-            }
-            return false;
+                if (color != null) {
+                    return metaThat.hasColor() && Objects.equals(color, metaThat.getColor());
+                } else return !metaThat.hasColor();
+            };
         }
-        return !(meta1 instanceof org.bukkit.inventory.meta.PotionMeta);
+        return (itemOther, metaOther) -> !(metaOther instanceof org.bukkit.inventory.meta.PotionMeta);
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_COLLECTION;
     }
 }
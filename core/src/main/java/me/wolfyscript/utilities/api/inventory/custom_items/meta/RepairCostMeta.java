@@ -21,7 +21,6 @@ package me.wolfyscript.utilities.api.inventory.custom_items.meta;
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.inventory.item_builder.ItemBuilder;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.Repairable;
 
 public class RepairCostMeta extends Meta {
@@ -35,19 +34,25 @@ public class RepairCostMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        ItemMeta metaOther = itemOther.getItemMeta();
-        ItemMeta meta = item.getItemMeta();
-        if (meta instanceof Repairable) {
-            if (metaOther instanceof Repairable) {
-                return switch (option) {
-                    case EXACT -> ((Repairable) metaOther).getRepairCost() == ((Repairable) meta).getRepairCost();
-                    case LOWER -> ((Repairable) metaOther).getRepairCost() < ((Repairable) meta).getRepairCost();
-                    case HIGHER -> ((Repairable) metaOther).getRepairCost() > ((Repairable) meta).getRepairCost();
-                    default -> false;
-                };
-            }
-            return false;
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        if (item.getItemMeta() instanceof Repairable repairable) {
+            int repairCost = repairable.getRepairCost();
+            return switch (option) {
+                case EXACT -> (itemOther, metaOther) -> metaOther instanceof Repairable other && other.getRepairCost() == repairCost;
+                case LOWER -> (itemOther, metaOther) -> metaOther instanceof Repairable other && other.getRepairCost() < repairCost;
+                case HIGHER -> (itemOther, metaOther) -> metaOther instanceof Repairable other && other.getRepairCost() > repairCost;
+                default -> (itemOther, metaOther) -> false;
+            };
         }
-        return !(metaOther instanceof Repairable);
+        return (itemOther, metaOther) -> !(metaOther instanceof Repairable);
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 }
@@ -32,6 +32,17 @@ public class UnbreakableMeta extends Meta {
 
     @Override
     public boolean check(CustomItem item, ItemBuilder itemOther) {
-        return item.getItemMeta().isUnbreakable() == itemOther.getItemMeta().isUnbreakable();
+        return compile(item).matches(itemOther, itemOther.getItemMeta());
+    }
+
+    @Override
+    public Matcher compile(CustomItem item) {
+        boolean unbreakable = item.getItemMeta().isUnbreakable();
+        return (itemOther, metaOther) -> metaOther.isUnbreakable() == unbreakable;
+    }
+
+    @Override
+    protected int getCheckCost() {
+        return COST_VALUE;
     }
 }
@@ -33,6 +33,10 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * This object is a wrapper for items that are part of external APIs or vanilla minecraft. <br>
@@ -54,8 +58,19 @@ import java.util.Objects;
  */
 public abstract class APIReference {
 
+    /**
+     * The current version of the linked item templates. Templates of an older version are rebuilt on the next access.
+     */
+    private static final AtomicInteger LINKED_ITEM_VERSION = new AtomicInteger();
+
+    /**
+     * Returned by {@link #getLinkedItemVersion()}, when the reference cannot tell if its linked item changed.
+     */
+    public static final int NO_LINKED_ITEM_VERSION = -1;
+
     protected int amount;
     private double weight;
+    private volatile LinkedItemTemplate linkedItemTemplate = null;
 
     protected APIReference() {
         this.amount = 0;
@@ -65,6 +80,60 @@ public abstract class APIReference {
     protected APIReference(APIReference apiReference) {
         this.amount = apiReference.amount;
         this.weight = apiReference.weight;
+        this.linkedItemTemplate = apiReference.linkedItemTemplate; // Links to the same item, so the template can be shared.
+    }
+
+    /**
+     * Invalidates the cached linked item templates of all references, so they are rebuilt on their next access.<br>
+     * This is called when items are registered, modified or removed, and when plugin integrations finished (re)loading their items.
+     *
+     * @see #getCachedLinkedItem(Supplier)
+     */
+    public static void invalidateLinkedItemTemplates() {
+        LINKED_ITEM_VERSION.updateAndGet(version -> version == Integer.MAX_VALUE ? 0 : version + 1); // Never wraps to NO_LINKED_ITEM_VERSION.
+    }
+
+    /**
+     * Gets a copy of the cached template of the linked item.<br>
+     * The template is only built once using the builder, and then reused until it is invalidated via {@link #invalidateLinkedItemTemplates()}.<br>
+     * That way references, which need to look up or build their items each time (e.g. registry lookups or item builders of other plugins), only need to copy the template.
+     *
+     * @param builder Builds the linked item. If it returns null, nothing is cached, so it is called again on the next access.
+     * @return A copy of the linked item template; or null if the builder couldn't build the item.
+     */
+    @Nullable
+    protected ItemStack getCachedLinkedItem(Supplier<ItemStack> builder) {
+        int version = LINKED_ITEM_VERSION.get();
+        LinkedItemTemplate template = linkedItemTemplate;
+        if (template == null || template.version() != version) {
+            ItemStack itemStack = builder.get();
+            if (itemStack == null) return null;
+            template = new LinkedItemTemplate(version, itemStack);
+            linkedItemTemplate = template;
+        }
+        return template.itemStack().clone();
+    }
+
+    private record LinkedItemTemplate(int version, ItemStack itemStack) { }
+
+    /**
+     * Gets the version of the linked item, which changes whenever the linked item may have changed, e.g. to detect if data derived from it is outdated.<br>
+     * By default, references don't publish a version ({@link #NO_LINKED_ITEM_VERSION}), as their linked item may change at any time without notice
+     * (e.g. items modified in place, or items of plugins that reload without an event).<br>
+     * References, whose linked item only changes when the templates are invalidated (See {@link #invalidateLinkedItemTemplates()}),
+     * can return {@link #getLinkedItemTemplatesVersion()}, while the {@link VanillaRef} counts the modifications of its item.
+     *
+     * @return The current version of the linked item; or {@link #NO_LINKED_ITEM_VERSION} if changes of the linked item cannot be detected.
+     */
+    public int getLinkedItemVersion() {
+        return NO_LINKED_ITEM_VERSION;
+    }
+
+    /**
+     * @return The current version of the linked item templates. It is never {@link #NO_LINKED_ITEM_VERSION}.
+     */
+    protected static int getLinkedItemTemplatesVersion() {
+        return LINKED_ITEM_VERSION.get();
     }
 
     /**
@@ -159,9 +228,19 @@ public abstract class APIReference {
 
     public abstract static class Parser<T extends APIReference> implements Comparable<Parser<?>> {
 
+        /**
+         * The marker keys of items, that store their reference in the PersistentDataContainer.
+         *
+         * @see #getMarkerKeys()
+         */
+        protected static final Set<String> PERSISTENT_DATA_MARKER = Set.of("PublicBukkitValues");
+
         private final int priority;
         private final String id;
         private final List<String> aliases;
+        private final LongAdder probeCount = new LongAdder();
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder probeNanos = new LongAdder();
 
         protected Parser(String id) {
             this(id, 0);
@@ -192,6 +271,56 @@ public abstract class APIReference {
         @Nullable
         public abstract T construct(ItemStack itemStack);
 
+        /**
+         * Gets the top-level NBT keys of the items, that this parser can construct references of.<br>
+         * When detecting the reference of an ItemStack, the top-level keys of the item are read once, and this parser is only called if at least one of these keys is present.<br>
+         * Parsers without marker keys are called for every item.
+         *
+         * @return The NBT keys, that mark the items of this parser; or an empty Set if the items cannot be identified by their NBT keys.
+         */
+        public Set<String> getMarkerKeys() {
+            return Set.of();
+        }
+
+        /**
+         * Calls {@link #construct(ItemStack)} and records the result and the time it took, for {@link #getProbeCount()}, {@link #getHitCount()} and {@link #getProbeNanos()}.
+         *
+         * @param itemStack The ItemStack to construct the reference of.
+         * @return The constructed reference; or null if the ItemStack doesn't belong to this parser.
+         */
+        @Nullable
+        public final T probe(ItemStack itemStack) {
+            long start = System.nanoTime();
+            T reference = construct(itemStack);
+            probeNanos.add(System.nanoTime() - start);
+            probeCount.increment();
+            if (reference != null) {
+                hitCount.increment();
+            }
+            return reference;
+        }
+
+        /**
+         * @return The amount of ItemStacks this parser was called for using {@link #probe(ItemStack)}.
+         */
+        public long getProbeCount() {
+            return probeCount.sum();
+        }
+
+        /**
+         * @return The amount of ItemStacks this parser constructed a reference of using {@link #probe(ItemStack)}.
+         */
+        public long getHitCount() {
+            return hitCount.sum();
+        }
+
+        /**
+         * @return The total time in nanoseconds this parser took in {@link #probe(ItemStack)}.
+         */
+        public long getProbeNanos() {
+            return probeNanos.sum();
+        }
+
         @Nullable
         public abstract T parse(JsonNode element);
 
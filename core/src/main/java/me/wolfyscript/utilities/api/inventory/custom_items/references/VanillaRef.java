@@ -35,6 +35,10 @@ import java.util.Objects;
 public class VanillaRef extends APIReference {
 
     private final ItemStack itemStack;
+    /**
+     * Counts the modifications of the linked item. See {@link #markLinkedItemModified()}.
+     */
+    private volatile int linkedItemVersion = 0;
 
     public VanillaRef(ItemStack itemStack) {
         super();
@@ -51,6 +55,25 @@ public class VanillaRef extends APIReference {
         return itemStack;
     }
 
+    /**
+     * The version of the linked item, which only changes when it is marked as modified via {@link #markLinkedItemModified()}.
+     *
+     * @return The current version of the linked item.
+     */
+    @Override
+    public int getLinkedItemVersion() {
+        return linkedItemVersion;
+    }
+
+    /**
+     * Marks the linked item as modified, so data derived from it, like compiled meta checks, is updated.<br>
+     * The builder methods of the {@link CustomItem} call this automatically. It must be called when the linked item is modified in place directly.
+     */
+    public void markLinkedItemModified() {
+        int version = linkedItemVersion;
+        linkedItemVersion = version == Integer.MAX_VALUE ? 0 : version + 1; // Never wraps to NO_LINKED_ITEM_VERSION.
+    }
+
     @Override
     public ItemStack getIdItem() {
         return itemStack;
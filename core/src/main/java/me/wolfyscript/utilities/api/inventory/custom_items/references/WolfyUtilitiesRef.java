@@ -31,6 +31,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Links to items of WolfyUtilities and saves the specified {@link NamespacedKey}
@@ -56,12 +57,22 @@ public class WolfyUtilitiesRef extends APIReference {
 
     @Override
     public ItemStack getLinkedItem() {
-        var customItem = WolfyUtilCore.getInstance().getRegistries().getCustomItems().get(namespacedKey);
-        if (customItem != null) {
-            return customItem.create();
-        }
-        WolfyUtilities.getWUCore().getConsole().warn("Couldn't find CustomItem for " + namespacedKey.toString());
-        return null;
+        return getCachedLinkedItem(() -> {
+            var customItem = WolfyUtilCore.getInstance().getRegistries().getCustomItems().get(namespacedKey);
+            if (customItem != null) {
+                return customItem.create();
+            }
+            WolfyUtilities.getWUCore().getConsole().warn("Couldn't find CustomItem for " + namespacedKey.toString());
+            return null;
+        });
+    }
+
+    /**
+     * The linked CustomItem only changes when it is registered, modified, or removed, which all invalidate the linked item templates.
+     */
+    @Override
+    public int getLinkedItemVersion() {
+        return getLinkedItemTemplatesVersion();
     }
 
     @Override
@@ -115,6 +126,11 @@ public class WolfyUtilitiesRef extends APIReference {
             super("wolfyutilities", "item_key");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return PERSISTENT_DATA_MARKER;
+        }
+
         @Override
         public @Nullable WolfyUtilitiesRef construct(ItemStack itemStack) {
             if (itemStack == null) return null;
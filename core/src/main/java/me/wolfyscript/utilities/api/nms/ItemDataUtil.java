@@ -0,0 +1,57 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.api.nms;
+
+import de.tr7zw.changeme.nbtapi.NBTCompound;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads data of items, without copying the items or their {@link ItemMeta}.<br>
+ * The NMS implementations read the data directly from the NBT of the item, while the fallback uses the Bukkit API.
+ */
+public abstract class ItemDataUtil extends UtilComponent {
+
+    protected ItemDataUtil(NMSUtil nmsUtil) {
+        super(nmsUtil);
+    }
+
+    /**
+     * Gets the String, that is saved under the specified key in the {@link org.bukkit.persistence.PersistentDataContainer} of the item.
+     *
+     * @param itemStack The item to read the value from.
+     * @param key       The key of the value.
+     * @return The String value; or null if the item has no String value with that key.
+     */
+    @Nullable
+    public abstract String getPersistentString(ItemStack itemStack, NamespacedKey key);
+
+    /**
+     * Gets the NBT of the item, e.g. to run a {@link com.wolfyscript.utilities.bukkit.nbt.NBTQuery} on it.<br>
+     * <b>The returned compound must only be read!</b> It may wrap the NBT of the item itself.
+     *
+     * @param itemStack The item to read the NBT from.
+     * @return The NBT of the item; or null if the item is air or empty.
+     */
+    @Nullable
+    public abstract NBTCompound getNBTCompound(@Nullable ItemStack itemStack);
+
+}
@@ -45,6 +45,7 @@ public abstract class NMSUtil {
     private final Plugin plugin;
     protected BlockUtil blockUtil;
     protected ItemUtil itemUtil;
+    protected ItemDataUtil itemDataUtil;
     protected RecipeUtil recipeUtil;
     protected InventoryUtil inventoryUtil;
     protected NBTUtil nbtUtil;
@@ -109,6 +110,10 @@ public abstract class NMSUtil {
         return itemUtil;
     }
 
+    public ItemDataUtil getItemDataUtil() {
+        return itemDataUtil;
+    }
+
     public InventoryUtil getInventoryUtil() {
         return inventoryUtil;
     }
@@ -20,6 +20,9 @@ package me.wolfyscript.utilities.api.nms;
 
 import io.netty.buffer.ByteBuf;
 import me.wolfyscript.utilities.api.nms.network.MCByteBuf;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
+import org.bukkit.Particle;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class NetworkUtil extends UtilComponent {
 
@@ -31,4 +34,20 @@ public abstract class NetworkUtil extends UtilComponent {
 
     public abstract MCByteBuf buffer();
 
+    /**
+     * Creates a new batch of particles, that are sent to the viewers at once.<br>
+     * The NMS implementations create the particle packets once and send the same packets to each viewer.
+     * The fallback sends the points using the Bukkit API.
+     *
+     * @param particle The particle to spawn.
+     * @param count    The amount of particles per point.
+     * @param offsetX  The random offset on the x axis.
+     * @param offsetY  The random offset on the y axis.
+     * @param offsetZ  The random offset on the z axis.
+     * @param extra    The extra data of the particle, usually the speed.
+     * @param data     The data of the particle; or null if it has no data.
+     * @return A new empty particle batch.
+     */
+    public abstract ParticleBatch createParticleBatch(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data);
+
 }
@@ -0,0 +1,72 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.api.nms.network;
+
+import me.wolfyscript.utilities.api.nms.NetworkUtil;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * Collects the points of a particle frame, that all use the same particle settings, and sends them to the viewers at once.<br>
+ * Instead of sending each point separately, which looks up the viewers and creates the packet for each point and player,
+ * the packets are only created once and sent to each viewer in one go.<br>
+ * <br>
+ * Create a new batch via {@link NetworkUtil#createParticleBatch(org.bukkit.Particle, int, double, double, double, double, Object)}.
+ */
+public interface ParticleBatch {
+
+    /**
+     * Adds a point to the batch.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     */
+    void add(double x, double y, double z);
+
+    /**
+     * @return The amount of points in the batch.
+     */
+    int size();
+
+    /**
+     * Sends all the points of the batch to the viewers.
+     *
+     * @param viewers The players to send the particles to.
+     */
+    default void send(Collection<? extends Player> viewers) {
+        send(viewers, 1);
+    }
+
+    /**
+     * Sends every n-th point of the batch to the viewers, e.g. to reduce the detail for viewers that are further away.<br>
+     * The batch may be sent multiple times with different steps to different viewers.
+     *
+     * @param viewers The players to send the particles to.
+     * @param step    Only every n-th point is sent. 1 sends all points.
+     */
+    void send(Collection<? extends Player> viewers, int step);
+
+    /**
+     * Removes all points from the batch, so it can be reused.
+     */
+    void clear();
+
+}
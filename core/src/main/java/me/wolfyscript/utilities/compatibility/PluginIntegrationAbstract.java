@@ -19,6 +19,7 @@
 package me.wolfyscript.utilities.compatibility;
 
 import me.wolfyscript.utilities.api.WolfyUtilCore;
+import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import org.bukkit.plugin.Plugin;
 
@@ -113,6 +114,7 @@ public abstract class PluginIntegrationAbstract implements PluginIntegration {
      */
     protected final void markAsDoneLoading() {
         setEnabled(true);
+        APIReference.invalidateLinkedItemTemplates(); // Items might have been linked before the data was (re)loaded.
         ((PluginsBukkit) core.getCompatibilityManager().getPlugins()).checkDependencies();
     }
 
@@ -19,4 +19,19 @@
 package me.wolfyscript.utilities.compatibility.plugins.mmoitems;
 
 public interface MMOItemsRef {
+
+    /**
+     * @return True if the linked item is only built once and then reused; false if a new item is built on each call.
+     * @see #setCacheLinkedItem(boolean)
+     */
+    boolean isCacheLinkedItem();
+
+    /**
+     * Sets whether the linked item is only built once and then reused until MMOItems reloads, instead of building a new item on each call.<br>
+     * Disabled by default, because caching the item rolls its random stats only once, so all items created from the reference would have the same stats.
+     *
+     * @param cacheLinkedItem True to cache the linked item.
+     */
+    void setCacheLinkedItem(boolean cacheLinkedItem);
+
 }
@@ -20,20 +20,31 @@ package me.wolfyscript.utilities.registry;
 
 import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.WolfyUtilitiesRef;
+import me.wolfyscript.utilities.api.nms.ItemDataUtil;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class RegistryCustomItem extends RegistrySimple<CustomItem> {
 
+    private final Registries registries;
+    private final List<Consumer<NamespacedKey>> changeListeners = new CopyOnWriteArrayList<>();
+    private ItemDataUtil itemDataUtil = null;
+    private boolean itemDataUtilResolved = false;
+
     RegistryCustomItem(Registries registries) {
         super(new NamespacedKey(registries.getCore(), "custom_items"), registries);
+        this.registries = registries;
     }
 
     public List<String> getNamespaces() {
@@ -65,17 +76,58 @@ public class RegistryCustomItem extends RegistrySimple<CustomItem> {
      */
     public Optional<CustomItem> getByItemStack(ItemStack itemStack) {
         if (itemStack != null) {
-            return getKeyOfItemMeta(itemStack.getItemMeta()).map(this::get);
+            return Optional.ofNullable(getKeyOfItemStack(itemStack)).map(this::get);
         }
         return Optional.empty();
     }
 
     /**
-     * @param itemMeta The ItemMeta to get the key from.
-     * @return The CustomItems {@link NamespacedKey} from the ItemMeta; or null if the ItemMeta doesn't contain a key.
+     * Gets the key of the CustomItem, that the ItemStack was created from.<br>
+     * The key is read directly from the NBT of the item (if supported by the NMSUtil, see {@link ItemDataUtil}), so the ItemMeta is not copied.
+     * Parsed keys are cached, so items of the same CustomItem share the same key instance.
+     *
+     * @param itemStack The ItemStack to get the key from.
+     * @return The CustomItems {@link NamespacedKey} from the ItemStack; or null if the ItemStack doesn't contain a key.
+     */
+    @Nullable
+    private NamespacedKey getKeyOfItemStack(ItemStack itemStack) {
+        ItemDataUtil util = getItemDataUtil();
+        String value;
+        if (util != null) {
+            value = util.getPersistentString(itemStack, CustomItem.PERSISTENT_KEY_TAG);
+        } else {
+            ItemMeta itemMeta = itemStack.hasItemMeta() ? itemStack.getItemMeta() : null;
+            value = itemMeta == null ? null : itemMeta.getPersistentDataContainer().get(CustomItem.PERSISTENT_KEY_TAG, PersistentDataType.STRING);
+        }
+        return NamespacedKey.of(value); // Parsed keys are cached, so this is only a lookup for known items.
+    }
+
+    @Nullable
+    private ItemDataUtil getItemDataUtil() {
+        if (!itemDataUtilResolved) {
+            var wolfyUtils = registries.getCore().getWolfyUtils();
+            if (wolfyUtils == null) return null; // Not yet initialised.
+            NMSUtil nmsUtil = wolfyUtils.getNmsUtil();
+            itemDataUtil = nmsUtil != null ? nmsUtil.getItemDataUtil() : null;
+            itemDataUtilResolved = true;
+        }
+        return itemDataUtil;
+    }
+
+    /**
+     * Adds a listener, that is called with the key of the CustomItem each time a CustomItem is registered or removed.<br>
+     * Used to invalidate data derived from the registered items, like cached references or equipment.
+     *
+     * @param listener The listener to call with the key of the registered or removed item.
      */
-    private Optional<NamespacedKey> getKeyOfItemMeta(ItemMeta itemMeta) {
-        return itemMeta == null ? Optional.empty() : Optional.ofNullable(NamespacedKey.of(itemMeta.getPersistentDataContainer().get(CustomItem.PERSISTENT_KEY_TAG, PersistentDataType.STRING)));
+    public void addChangeListener(Consumer<NamespacedKey> listener) {
+        changeListeners.add(listener);
+    }
+
+    private void notifyChange(NamespacedKey namespacedKey) {
+        for (Consumer<NamespacedKey> listener : changeListeners) {
+            listener.accept(namespacedKey);
+        }
     }
 
     /**
@@ -95,6 +147,7 @@ public class RegistryCustomItem extends RegistrySimple<CustomItem> {
      */
     public void remove(NamespacedKey namespacedKey) {
         this.map.remove(namespacedKey);
+        notifyChange(namespacedKey);
     }
 
     /**
@@ -118,5 +171,6 @@ public class RegistryCustomItem extends RegistrySimple<CustomItem> {
         }
         this.map.put(namespacedKey, item);
         item.setNamespacedKey(namespacedKey);
+        notifyChange(namespacedKey);
     }
 }
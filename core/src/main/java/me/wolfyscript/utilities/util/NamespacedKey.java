@@ -34,8 +34,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The NamespacedKey is used to manage and identify resources and prevent conflicts with for example plugins.<br>
@@ -55,13 +56,25 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
 
     public static final String WOLFYUTILITIES = "wolfyutilities";
 
-    @JsonIgnore
-    private static final Pattern VALID_NAMESPACE = Pattern.compile("[a-z0-9._-]+");
-    @JsonIgnore
-    private static final Pattern VALID_KEY = Pattern.compile("[a-z0-9/._-]+");
+    /**
+     * The max amount of keys in the {@link #INTERNED} cache. Once exceeded, the cache is cleared.
+     */
+    private static final int MAX_INTERNED = 8192;
+    /**
+     * Caches the keys created by {@link #of(String)} and {@link #fromBukkit(org.bukkit.NamespacedKey)}, so the same key is only parsed and validated once.<br>
+     * Contains the canonical String of each key, as well as the original Strings, which it was parsed from.
+     */
+    private static final Map<String, NamespacedKey> INTERNED = new ConcurrentHashMap<>();
+
     private final boolean hasPlugin;
     private final String namespace;
     private final Key key;
+    @JsonIgnore
+    private final String string;
+    @JsonIgnore
+    private final int hash;
+    @JsonIgnore
+    private org.bukkit.NamespacedKey bukkit = null;
 
     /**
      * Creates a NamespacedKey with a custom namespace and key.<br>
@@ -72,11 +85,12 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
      * @param key       The key that fits the pattern [a-z0-9/._-]
      */
     public NamespacedKey(String namespace, String key) {
-        Preconditions.checkArgument(namespace != null && VALID_NAMESPACE.matcher(namespace).matches(), "Invalid namespace. Must be [a-z0-9._-]: %s", namespace);
+        Preconditions.checkArgument(namespace != null && isValidNamespace(namespace), "Invalid namespace. Must be [a-z0-9._-]: %s", namespace);
         this.key = new Key(key.toLowerCase(Locale.ROOT));
         this.namespace = namespace;
         this.hasPlugin = false;
-        var string = this.toString();
+        this.string = namespace + ":" + this.key;
+        this.hash = Objects.hash(namespace, this.key);
         Preconditions.checkArgument(string.length() < 256, "NamespacedKey must be less than 256 characters", string);
     }
 
@@ -91,12 +105,48 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
         Preconditions.checkArgument(key != null, "Key cannot be null");
         this.hasPlugin = true;
         this.namespace = plugin.getName().toLowerCase(Locale.ROOT);
-        Preconditions.checkArgument(VALID_NAMESPACE.matcher(this.namespace).matches(), "Invalid namespace. Must be [a-z0-9._-]: %s", this.namespace);
+        Preconditions.checkArgument(isValidNamespace(this.namespace), "Invalid namespace. Must be [a-z0-9._-]: %s", this.namespace);
         this.key = new Key(key.toLowerCase(Locale.ROOT));
-        String string = this.toString();
+        this.string = namespace + ":" + this.key;
+        this.hash = Objects.hash(namespace, this.key);
         Preconditions.checkArgument(string.length() < 256, "NamespacedKey must be less than 256 characters (%s)", string);
     }
 
+    /**
+     * Checks if the namespace only contains valid characters [a-z0-9._-] and is not empty.
+     *
+     * @param namespace The namespace to check.
+     * @return True if the namespace is valid; otherwise false.
+     */
+    public static boolean isValidNamespace(String namespace) {
+        int length = namespace.length();
+        if (length == 0) return false;
+        for (int i = 0; i < length; i++) {
+            if (!isValidNamespaceChar(namespace.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the key only contains valid characters [a-z0-9/._-] and is not empty.
+     *
+     * @param key The key to check.
+     * @return True if the key is valid; otherwise false.
+     */
+    public static boolean isValidKey(String key) {
+        int length = key.length();
+        if (length == 0) return false;
+        for (int i = 0; i < length; i++) {
+            char c = key.charAt(i);
+            if (c != '/' && !isValidNamespaceChar(c)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidNamespaceChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.' || c == '_' || c == '-';
+    }
+
     /**
      * Gets the namespace of this object.
      *
@@ -129,28 +179,59 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
     }
 
     /**
+     * Parses the NamespacedKey from the String.<br>
+     * Keys are cached, so parsing the same String again returns the same instance without validating it again.
+     *
      * @param namespaceKey The String with a column.
      * @return The NamespacedKey of the String or null, if the String doesn't contain a ":".
      */
     @Nullable
     public static NamespacedKey of(@Nullable String namespaceKey) {
         if (namespaceKey == null || namespaceKey.isEmpty()) return null;
-        String[] parts = namespaceKey.split(":", 2);
-        if (parts.length == 0) return null;
-        if (parts.length > 1) {
-            return new NamespacedKey(parts[0].toLowerCase(Locale.ROOT), parts[1].toLowerCase(Locale.ROOT));
+        NamespacedKey cached = INTERNED.get(namespaceKey);
+        if (cached != null) return cached;
+        int separator = namespaceKey.indexOf(':');
+        NamespacedKey parsed;
+        if (separator >= 0) {
+            parsed = new NamespacedKey(namespaceKey.substring(0, separator).toLowerCase(Locale.ROOT), namespaceKey.substring(separator + 1).toLowerCase(Locale.ROOT));
         } else {
-            return wolfyutilties(parts[0]);
+            parsed = wolfyutilties(namespaceKey);
         }
+        return intern(namespaceKey, parsed);
     }
 
     /**
-     * Creates the bukkit representation of this object.
+     * Caches the key under its canonical String and the String it was created from.
+     *
+     * @param source The String the key was created from.
+     * @param key    The new key.
+     * @return The canonical instance of the key.
+     */
+    private static NamespacedKey intern(String source, NamespacedKey key) {
+        if (INTERNED.size() >= MAX_INTERNED) {
+            INTERNED.clear(); // Only happens with a lot of dynamic keys. Keys stay valid, they just aren't shared.
+        }
+        NamespacedKey existing = INTERNED.putIfAbsent(key.string, key);
+        NamespacedKey canonical = existing != null ? existing : key;
+        if (!source.equals(canonical.string)) {
+            INTERNED.put(source, canonical);
+        }
+        return canonical;
+    }
+
+    /**
+     * Gets the bukkit representation of this object.<br>
+     * It is only created once and then reused.
      *
      * @return The Bukkit NamespacedKey.
      */
     public org.bukkit.NamespacedKey bukkit() {
-        return new org.bukkit.NamespacedKey(this.namespace, this.getKey());
+        var bukkitKey = this.bukkit;
+        if (bukkitKey == null) {
+            bukkitKey = new org.bukkit.NamespacedKey(this.namespace, this.getKey());
+            this.bukkit = bukkitKey; // Immutable, so it doesn't matter if it is created multiple times by different threads.
+        }
+        return bukkitKey;
     }
 
     /**
@@ -161,7 +242,10 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
      * @return A new NamespacedKey with the same namespace and key as the Bukkit representation.
      */
     public static NamespacedKey fromBukkit(org.bukkit.NamespacedKey namespacedKey) {
-        return new NamespacedKey(namespacedKey.getNamespace(), namespacedKey.getKey());
+        String source = namespacedKey.toString();
+        NamespacedKey cached = INTERNED.get(source);
+        if (cached != null) return cached;
+        return intern(source, new NamespacedKey(namespacedKey.getNamespace(), namespacedKey.getKey()));
     }
 
     /**
@@ -199,24 +283,23 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof NamespacedKey that)) return false;
-        return Objects.equals(namespace, that.namespace) &&
-                Objects.equals(key, that.key);
+        return hash == that.hash && string.equals(that.string);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, key);
+        return hash;
     }
 
     @JsonValue
     @Override
     public String toString() {
-        return toString(":");
+        return string;
     }
 
     public String toString(String split) {
-        if (split == null || split.isEmpty()) {
-            split = ":";
+        if (split == null || split.isEmpty() || split.equals(":")) {
+            return string;
         }
         return getNamespace() + split + getKey();
     }
@@ -244,23 +327,24 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
 
         private final String folder;
         private final String object;
+        private final String string;
 
         private Key(String keyString) {
-            Preconditions.checkArgument(VALID_KEY.matcher(keyString).matches(), "Invalid key. Must be [a-z0-9/._-]: %s", keyString);
-            if (keyString.contains("/")) {
-                String[] args = keyString.split("/(?!.*/)");
-                if (args.length > 1) {
-                    this.folder = args[0];
-                    this.object = args[1];
-                    return;
-                } else if (args.length == 1) {
-                    this.folder = "";
-                    this.object = args[0];
-                    return;
-                }
+            Preconditions.checkArgument(isValidKey(keyString), "Invalid key. Must be [a-z0-9/._-]: %s", keyString);
+            int separator = keyString.lastIndexOf('/');
+            if (separator < 0) {
+                this.folder = "";
+                this.object = keyString;
+            } else if (separator == keyString.length() - 1) {
+                // A trailing "/" has no object, so the rest of the key is used as the object instead.
+                String rest = keyString.substring(0, separator);
+                this.folder = "";
+                this.object = rest.isEmpty() ? keyString : rest;
+            } else {
+                this.folder = keyString.substring(0, separator);
+                this.object = keyString.substring(separator + 1);
             }
-            this.object = keyString;
-            this.folder = "";
+            this.string = toString("/", false);
         }
 
         /**
@@ -303,7 +387,7 @@ public class NamespacedKey implements Comparable<NamespacedKey> {
          */
         @Override
         public String toString() {
-            return toString("/");
+            return string;
         }
 
         /**
@@ -0,0 +1,158 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.wolfyscript.utilities.util.entity;
+
+import me.wolfyscript.utilities.api.inventory.custom_items.CustomItem;
+import me.wolfyscript.utilities.util.inventory.ItemUtils;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A snapshot of the {@link CustomItem}s a player has equipped (armor and both hands).<br>
+ * <br>
+ * The items are only resolved again, once the snapshot was invalidated and the item in the slot actually changed.
+ * The snapshot is invalidated by inventory related events (e.g. clicks, drops, pickups, hand swaps),
+ * so looking up the equipped CustomItem is usually just an array access, instead of resolving the ItemStack each time.<br>
+ * Plugins, that change the equipment of players directly, can call {@link #invalidate()} to make sure the snapshot is up-to-date.<br>
+ * <br>
+ * <b>Must only be used on the main thread!</b><br>
+ * Get the snapshot via {@link PlayerUtils#getEquipment(Player)}.
+ */
+public final class PlayerEquipment {
+
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+    /**
+     * Incremented when the registered CustomItems change, so all the snapshots resolve their items again.
+     */
+    private static final AtomicInteger VERSION = new AtomicInteger();
+
+    private final Player player;
+    private final ItemStack[] stacks = new ItemStack[SLOTS.length];
+    private final CustomItem[] items = new CustomItem[SLOTS.length];
+    private int version = -1;
+    private boolean dirty = true;
+
+    PlayerEquipment(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Invalidates the snapshots of all players and makes them resolve all their items again.<br>
+     * Called when CustomItems are registered or removed.
+     */
+    public static void invalidateAll() {
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * Gets the CustomItem that is equipped in the specified slot.
+     *
+     * @param slot The equipment slot.
+     * @return The CustomItem in that slot; or null if the slot is empty or doesn't contain a CustomItem.
+     */
+    @Nullable
+    public CustomItem get(EquipmentSlot slot) {
+        refresh();
+        return items[slot.ordinal()];
+    }
+
+    /**
+     * Resolves the CustomItem of the ItemStack, that is about to be put into the specified slot.<br>
+     * In case the ItemStack is similar to the one that is currently in that slot, then the already resolved CustomItem is returned.
+     *
+     * @param slot      The equipment slot.
+     * @param itemStack The ItemStack to resolve.
+     * @return The CustomItem of the ItemStack; or null if it isn't a CustomItem.
+     */
+    @Nullable
+    public CustomItem resolve(EquipmentSlot slot, @Nullable ItemStack itemStack) {
+        if (ItemUtils.isAirOrNull(itemStack)) return null;
+        refresh();
+        int index = slot.ordinal();
+        if (itemStack.isSimilar(stacks[index])) return items[index];
+        return CustomItem.getByItemStack(itemStack);
+    }
+
+    /**
+     * Marks the snapshot as outdated, so the slots are checked for changes the next time it is accessed.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Updates the snapshot of the specified slot, without checking the equipment of the player.<br>
+     * Used by listeners, that already know the new item of the slot.
+     *
+     * @param slot       The equipment slot.
+     * @param itemStack  The new ItemStack in that slot.
+     * @param customItem The resolved CustomItem of the ItemStack.
+     */
+    public void set(EquipmentSlot slot, @Nullable ItemStack itemStack, @Nullable CustomItem customItem) {
+        refresh();
+        int index = slot.ordinal();
+        stacks[index] = ItemUtils.isAirOrNull(itemStack) ? null : itemStack.clone();
+        items[index] = stacks[index] == null ? null : customItem;
+    }
+
+    /**
+     * Swaps the snapshots of the main and off-hand.
+     */
+    public void swapHands() {
+        refresh();
+        int hand = EquipmentSlot.HAND.ordinal();
+        int offHand = EquipmentSlot.OFF_HAND.ordinal();
+        ItemStack stack = stacks[hand];
+        stacks[hand] = stacks[offHand];
+        stacks[offHand] = stack;
+        CustomItem item = items[hand];
+        items[hand] = items[offHand];
+        items[offHand] = item;
+    }
+
+    private void refresh() {
+        int currentVersion = VERSION.get();
+        if (version != currentVersion) {
+            version = currentVersion;
+            dirty = true;
+            for (int i = 0; i < SLOTS.length; i++) {
+                stacks[i] = null;
+                items[i] = null;
+            }
+        }
+        if (!dirty) return;
+        dirty = false;
+        EntityEquipment equipment = player.getEquipment();
+        if (equipment == null) return;
+        for (int i = 0; i < SLOTS.length; i++) {
+            ItemStack current = equipment.getItem(SLOTS[i]);
+            if (ItemUtils.isAirOrNull(current)) {
+                stacks[i] = null;
+                items[i] = null;
+            } else if (!current.isSimilar(stacks[i])) {
+                stacks[i] = current.clone();
+                items[i] = CustomItem.getByItemStack(current);
+            }
+        }
+    }
+}
@@ -32,10 +32,8 @@ import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.json.jackson.JacksonUtil;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,35 +58,43 @@ public class PlayerStore {
     }
 
     static PlayerStore load(UUID uuid) {
-        var file = new File(PlayerUtils.STORE_FOLDER + File.separator + uuid.toString() + ".store");
-        if (file.exists()) {
-            try (var bufStream = new BufferedInputStream(new GZIPInputStream(new FileInputStream(file)))) {
-                var store = JacksonUtil.getObjectMapper().readValue(bufStream, PlayerStore.class);
+        try {
+            byte[] data = PlayerUtils.readStoreData(uuid);
+            if (data != null) {
+                var store = decode(data);
                 if (store != null) {
                     return store;
                 }
-            } catch (IOException ex) {
-                WolfyUtilities.getWUCore().getConsole().warn("Error loading player store for " + uuid+" -> Reset store!");
             }
+        } catch (IOException ex) {
+            WolfyUtilities.getWUCore().getConsole().warn("Error loading player store for " + uuid+" -> Reset store!");
         }
         return new PlayerStore();
     }
 
+    /**
+     * Decodes the store from the gzip compressed json data.
+     */
+    static PlayerStore decode(byte[] data) throws IOException {
+        try (var bufStream = new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            return JacksonUtil.getObjectMapper().readValue(bufStream, PlayerStore.class);
+        }
+    }
+
     public <D extends CustomPlayerData> D getData(NamespacedKey dataKey, Class<D> dataType) {
         return dataType.cast(data.get(dataKey));
     }
 
-    void save(UUID uuid) {
-        try (
-                var fileStream = new FileOutputStream(PlayerUtils.STORE_FOLDER + File.separator + uuid.toString() + ".store");
-                var gzip = new GZIPOutputStream(new BufferedOutputStream(fileStream))
-        ) {
+    /**
+     * Encodes the store as gzip compressed json data.<br>
+     * This must be called on the main thread, so the data is not modified while it is written.
+     */
+    byte[] encode() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
             JacksonUtil.getObjectWriter(false).writeValue(gzip, this);
-            gzip.flush();
-            fileStream.flush();
-        } catch (IOException e) {
-            WolfyUtilities.getWUCore().getConsole().warn("Error saving player store for " + uuid+"!");
         }
+        return bytes.toByteArray();
     }
 
     @Override
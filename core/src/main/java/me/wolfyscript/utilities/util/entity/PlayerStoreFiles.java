@@ -0,0 +1,70 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.util.entity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stores the encoded {@link PlayerStore}s in the legacy format, with one file per player.<br>
+ * Used to read the legacy files that were not migrated to the {@link PlayerStoreSegments} yet,
+ * and as the fallback storage, in case the segments cannot be opened.
+ */
+final class PlayerStoreFiles implements PlayerStoreStorage {
+
+    static final String EXTENSION = ".store";
+
+    private final Path folder;
+
+    PlayerStoreFiles(Path folder) throws IOException {
+        this.folder = folder;
+        Files.createDirectories(folder);
+    }
+
+    private Path file(UUID uuid) {
+        return folder.resolve(uuid + EXTENSION);
+    }
+
+    @Nullable
+    @Override
+    public byte[] read(UUID uuid) throws IOException {
+        try {
+            return Files.readAllBytes(file(uuid));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void write(Map<UUID, byte[]> records) throws IOException {
+        for (Map.Entry<UUID, byte[]> record : records.entrySet()) {
+            Files.write(file(record.getKey()), record.getValue());
+        }
+    }
+
+    @Override
+    public void close() {
+        // Each file is only open while it is read or written.
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.util.entity;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stores the encoded {@link PlayerStore}s of all players in a fixed amount of segment files, instead of one file per player.<br>
+ * <br>
+ * Each segment is an append-only log of records (uuid, length, data). Saving a store appends a new record, which replaces the previous one.<br>
+ * The index of the latest record of each player is rebuilt from the record headers when the segment is opened,
+ * so reading a store is a single positional read.<br>
+ * Once a segment contains more replaced than live data, it is compacted by rewriting the live records into a new file.<br>
+ * <br>
+ * All methods are thread-safe. Each segment is guarded by its own lock.
+ */
+final class PlayerStoreSegments implements PlayerStoreStorage {
+
+    private static final int SEGMENT_COUNT = 16; // Must be a power of two.
+    private static final String SEGMENT_EXTENSION = ".segment";
+    private static final int HEADER_SIZE = Long.BYTES * 2 + Integer.BYTES; // uuid, length
+    /**
+     * Segments are not compacted before they contain at least this amount of replaced data.
+     */
+    private static final long MIN_COMPACT_GARBAGE = 1 << 20;
+    /**
+     * The amount of legacy files, that are migrated at once, so not all of them are kept in memory at the same time.
+     */
+    private static final int MIGRATION_BATCH_SIZE = 1024;
+
+    private final Logger logger;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    PlayerStoreSegments(Path folder, Logger logger) throws IOException {
+        this.logger = logger;
+        Files.createDirectories(folder);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(folder.resolve(i + SEGMENT_EXTENSION));
+        }
+    }
+
+    private Segment segment(UUID uuid) {
+        return segments[(int) (uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits()) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Reads the latest saved data of the player.
+     *
+     * @param uuid The uuid of the player.
+     * @return The saved data; or null if there is no data saved for the player.
+     * @throws IOException If the segment cannot be read.
+     */
+    @Nullable
+    @Override
+    public byte[] read(UUID uuid) throws IOException {
+        return segment(uuid).read(uuid);
+    }
+
+    boolean contains(UUID uuid) {
+        return segment(uuid).contains(uuid);
+    }
+
+    /**
+     * Gets the total amount of players that have data saved.
+     *
+     * @return The amount of saved players.
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Saves the data of the players.<br>
+     * The records of each segment are appended in a single write.
+     *
+     * @param records The encoded data mapped by the uuid of the players.
+     * @throws IOException If a segment cannot be written.
+     */
+    @Override
+    public void write(Map<UUID, byte[]> records) throws IOException {
+        if (records.isEmpty()) return;
+        Map<Segment, Map<UUID, byte[]>> bySegment = new HashMap<>();
+        records.forEach((uuid, data) -> bySegment.computeIfAbsent(segment(uuid), segment -> new HashMap<>()).put(uuid, data));
+        for (Map.Entry<Segment, Map<UUID, byte[]>> entry : bySegment.entrySet()) {
+            entry.getKey().write(entry.getValue());
+        }
+    }
+
+    /**
+     * Moves the legacy store files (one gzip file per player) from the specified folder into the segments.<br>
+     * The data format of the records is the same, so the data is copied as is. Players that are already contained in the segments are skipped,
+     * as their segment data is newer.<br>
+     * The legacy files are deleted once they were written to the segments.
+     *
+     * @param legacyFolder The folder containing the legacy store files.
+     * @return The amount of migrated stores.
+     * @throws IOException If the segments cannot be written.
+     */
+    int migrateLegacyStores(Path legacyFolder) throws IOException {
+        if (!Files.isDirectory(legacyFolder)) return 0;
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(legacyFolder)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(PlayerStoreFiles.EXTENSION)).toList();
+        }
+        int migrated = 0;
+        Map<UUID, byte[]> records = new HashMap<>();
+        List<Path> migratedFiles = new ArrayList<>();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            try {
+                var uuid = UUID.fromString(fileName.substring(0, fileName.length() - PlayerStoreFiles.EXTENSION.length()));
+                if (!contains(uuid)) {
+                    records.put(uuid, Files.readAllBytes(file));
+                }
+                migratedFiles.add(file);
+            } catch (IllegalArgumentException | IOException e) {
+                logger.warning("Failed to migrate player store " + fileName + ": " + e.getMessage());
+            }
+            if (migratedFiles.size() >= MIGRATION_BATCH_SIZE) {
+                migrated += writeMigrated(records, migratedFiles);
+            }
+        }
+        return migrated + writeMigrated(records, migratedFiles);
+    }
+
+    /**
+     * Writes the batch of migrated records and deletes the legacy files afterwards, so the data is never lost in between.
+     */
+    private int writeMigrated(Map<UUID, byte[]> records, List<Path> migratedFiles) throws IOException {
+        int migrated = records.size();
+        write(records);
+        for (Path file : migratedFiles) {
+            Files.deleteIfExists(file);
+        }
+        records.clear();
+        migratedFiles.clear();
+        return migrated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException();
+        }
+        buffer.flip();
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private record Entry(long offset, int length) { }
+
+    private final class Segment {
+
+        private final Path path;
+        private Map<UUID, Entry> index = new HashMap<>();
+        private FileChannel channel;
+        private long end;
+        private long garbage;
+
+        private Segment(Path path) throws IOException {
+            this.path = path;
+            this.channel = open(path);
+            scan();
+        }
+
+        /**
+         * Rebuilds the index from the record headers.<br>
+         * A record at the end, that was not written completely (e.g. the server crashed while saving), is cut off.
+         */
+        private void scan() throws IOException {
+            long size = channel.size();
+            long position = 0;
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            while (position + HEADER_SIZE <= size) {
+                header.clear();
+                readFully(channel, header, position);
+                var uuid = new UUID(header.getLong(), header.getLong());
+                int length = header.getInt();
+                if (length < 0 || position + HEADER_SIZE + length > size) break;
+                Entry previous = index.put(uuid, new Entry(position + HEADER_SIZE, length));
+                if (previous != null) {
+                    garbage += HEADER_SIZE + previous.length();
+                }
+                position += HEADER_SIZE + length;
+            }
+            if (position < size) {
+                logger.warning("Cut off incomplete player store record at the end of " + path.getFileName());
+                channel.truncate(position);
+            }
+            end = position;
+        }
+
+        private synchronized boolean contains(UUID uuid) {
+            return index.containsKey(uuid);
+        }
+
+        private synchronized int size() {
+            return index.size();
+        }
+
+        @Nullable
+        private synchronized byte[] read(UUID uuid) throws IOException {
+            Entry entry = index.get(uuid);
+            if (entry == null) return null;
+            var buffer = ByteBuffer.allocate(entry.length());
+            readFully(channel, buffer, entry.offset());
+            return buffer.array();
+        }
+
+        private synchronized void write(Map<UUID, byte[]> records) throws IOException {
+            int totalSize = 0;
+            for (byte[] data : records.values()) {
+                totalSize += HEADER_SIZE + data.length;
+            }
+            var buffer = ByteBuffer.allocate(totalSize);
+            Map<UUID, Entry> written = new HashMap<>();
+            for (Map.Entry<UUID, byte[]> record : records.entrySet()) {
+                UUID uuid = record.getKey();
+                byte[] data = record.getValue();
+                buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).putInt(data.length);
+                written.put(uuid, new Entry(end + buffer.position(), data.length));
+                buffer.put(data);
+            }
+            buffer.flip();
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+            end = position;
+            written.forEach((uuid, entry) -> {
+                Entry previous = index.put(uuid, entry);
+                if (previous != null) {
+                    garbage += HEADER_SIZE + previous.length();
+                }
+            });
+            if (garbage >= MIN_COMPACT_GARBAGE && garbage > end - garbage) {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    // The records are already written, so the segment stays usable, it's just not compacted yet.
+                    logger.warning("Failed to compact player store segment " + path.getFileName() + ": " + e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * Rewrites the live records into a new file, which then atomically replaces the segment.<br>
+         * If the segment cannot be replaced, the original file is reopened and the segment stays as it was.
+         */
+        private void compact() throws IOException {
+            Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+            Map<UUID, Entry> compactIndex = new HashMap<>();
+            long position = 0;
+            try (FileChannel compactChannel = FileChannel.open(compactPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (Map.Entry<UUID, Entry> entry : index.entrySet()) {
+                    long recordSize = HEADER_SIZE + entry.getValue().length();
+                    long recordStart = entry.getValue().offset() - HEADER_SIZE;
+                    long transferred = 0;
+                    while (transferred < recordSize) {
+                        transferred += channel.transferTo(recordStart + transferred, recordSize - transferred, compactChannel);
+                    }
+                    compactIndex.put(entry.getKey(), new Entry(position + HEADER_SIZE, entry.getValue().length()));
+                    position += recordSize;
+                }
+                compactChannel.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // Keep using the original file, which is still intact.
+                channel = open(path);
+                Files.deleteIfExists(compactPath);
+                throw e;
+            }
+            channel = open(path);
+            index = compactIndex;
+            end = position;
+            garbage = 0;
+        }
+
+        private synchronized void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.util.entity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes the encoded {@link PlayerStore}s of players.<br>
+ * Implementations must be thread-safe, as stores are loaded by multiple threads at once.
+ */
+interface PlayerStoreStorage extends Closeable {
+
+    /**
+     * Reads the latest saved data of the player.
+     *
+     * @param uuid The uuid of the player.
+     * @return The saved data; or null if there is no data saved for the player.
+     * @throws IOException If the data cannot be read.
+     */
+    @Nullable
+    byte[] read(UUID uuid) throws IOException;
+
+    /**
+     * Saves the data of the players.
+     *
+     * @param records The encoded data mapped by the uuid of the players.
+     * @throws IOException If the data cannot be written.
+     */
+    void write(Map<UUID, byte[]> records) throws IOException;
+
+}
@@ -20,24 +20,63 @@ package me.wolfyscript.utilities.util.entity;
 
 import me.wolfyscript.utilities.api.WolfyUtilities;
 import me.wolfyscript.utilities.util.particles.ParticleUtils;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class PlayerUtils {
 
     private PlayerUtils() {
     }
 
-    static final Map<UUID, PlayerStore> indexedStores = new HashMap<>();
+    /**
+     * The maximum amount of stores of offline players, that are kept in memory. Stores of online players are never evicted.
+     */
+    private static final int MAX_CACHED_OFFLINE_STORES = 512;
+    private static final String SEGMENTS_FOLDER = "segments";
+    private static final int LOAD_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    /**
+     * The time in ticks after which prefetched stores are discarded, if they were not claimed by then (e.g. the player disconnected while logging in).
+     */
+    private static final long PREFETCH_EXPIRY_TICKS = 60 * 20L;
+
+    /**
+     * The cached stores in access order, so the least recently used stores are evicted first. Only accessed on the main thread.
+     */
+    static final Map<UUID, PlayerStore> indexedStores = new LinkedHashMap<>(16, 0.75f, true);
+    private static volatile PlayerStoreSegments segments; // Read by the load threads
+    /**
+     * The legacy store files. Stores, that are not in the segments, are read from them, and if the segments cannot be opened, stores are written to them instead.
+     */
+    private static volatile PlayerStoreFiles legacyFiles;
+    private static ExecutorService saveExecutor;
+    private static ExecutorService loadExecutor;
+    /**
+     * The stores, that are loaded asynchronously (e.g. prefetched on login), but not yet cached on the main thread.
+     */
+    private static final Map<UUID, CompletableFuture<PlayerStore>> loadingStores = new ConcurrentHashMap<>();
+    /**
+     * The encoded stores, that are not yet written to the segments.
+     */
+    private static final Map<UUID, byte[]> pendingWrites = new ConcurrentHashMap<>();
 
     private static final HashMap<UUID, Map<EquipmentSlot, UUID>> playerItemParticles = new HashMap<>();
+    private static final Map<UUID, PlayerEquipment> equipment = new HashMap<>();
     static final File STORE_FOLDER = new File(WolfyUtilities.getWUPlugin().getDataFolder(), "players");
 
 
@@ -73,29 +112,121 @@ public class PlayerUtils {
         getActiveItemEffects(player).remove(equipmentSlot);
     }
 
+    /**
+     * Gets the snapshot of the CustomItems the player has equipped.<br>
+     * <b>Must be called on the main thread!</b>
+     *
+     * @param player The player object
+     * @return The equipment snapshot of the player
+     */
+    @NotNull
+    public static PlayerEquipment getEquipment(@NotNull Player player) {
+        return equipment.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerEquipment(player));
+    }
+
+    /**
+     * Removes the equipment snapshot of the player, e.g. when the player leaves.
+     *
+     * @param player The player object
+     */
+    public static void removeEquipment(@NotNull Player player) {
+        equipment.remove(player.getUniqueId());
+    }
+
+    /**
+     * Opens the player data segments and migrates the legacy store files into them.<br>
+     * If the segments cannot be opened, the stores are saved to the legacy store files instead.
+     * Stores are no longer loaded all at once, but only when they are requested (See {@link #getStore(UUID)}).
+     */
     public static void loadStores() {
-        WolfyUtilities.getWUPlugin().getLogger().info("Loading Player Data");
-        if (STORE_FOLDER.exists() || STORE_FOLDER.mkdirs()) {
-            String[] files = STORE_FOLDER.list();
-            if (files != null) {
-                for (String s : files) {
-                    if (s.endsWith(".store")) {
-                        try {
-                            var uuid = UUID.fromString(s.replace(".store", ""));
-                            indexedStores.put(uuid, PlayerStore.load(uuid));
-                        } catch (IllegalArgumentException e) {
-                            WolfyUtilities.getWUPlugin().getLogger().info("Failed to load file " + s + ": " + e.getMessage());
-                        }
-                    }
-                }
+        var logger = WolfyUtilities.getWUPlugin().getLogger();
+        logger.info("Loading Player Data");
+        saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "WolfyUtils PlayerStore IO");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loadExecutor = Executors.newFixedThreadPool(LOAD_THREADS, runnable -> {
+            var thread = new Thread(runnable, "WolfyUtils PlayerStore Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            legacyFiles = new PlayerStoreFiles(STORE_FOLDER.toPath());
+        } catch (IOException e) {
+            logger.severe("Failed to open player data folder: " + e.getMessage());
+        }
+        try {
+            segments = new PlayerStoreSegments(new File(STORE_FOLDER, SEGMENTS_FOLDER).toPath(), logger);
+        } catch (IOException e) {
+            logger.severe("Failed to open player data segments: " + e.getMessage());
+            logger.severe(legacyFiles != null ? "Falling back to one player data file per player!" : "Player data cannot be saved!");
+            return;
+        }
+        try {
+            int migrated = segments.migrateLegacyStores(STORE_FOLDER.toPath());
+            if (migrated > 0) {
+                logger.info("Migrated " + migrated + " player stores to the segment format");
             }
+        } catch (IOException e) {
+            // The stores, that were not migrated, are still read from the legacy files.
+            logger.warning("Failed to migrate player stores to the segment format: " + e.getMessage());
         }
     }
 
+    /**
+     * @return The storage new data is written to; or null if there is no writable storage.
+     */
+    @Nullable
+    private static PlayerStoreStorage getWriteStorage() {
+        PlayerStoreSegments currentSegments = segments;
+        return currentSegments != null ? currentSegments : legacyFiles;
+    }
+
+    /**
+     * Saves all the cached stores and waits until they are written.
+     */
     public static void saveStores() {
-        if (STORE_FOLDER.exists() || STORE_FOLDER.mkdirs()) {
-            indexedStores.forEach((uuid, playerStore) -> playerStore.save(uuid));
+        Map<UUID, byte[]> records = encodeStores(indexedStores.entrySet().iterator(), Integer.MAX_VALUE, false);
+        writeStores(records).join();
+    }
+
+    /**
+     * Saves all the cached stores, then closes the player data.<br>
+     * Called when the plugin is disabled.
+     */
+    public static void closeStores() {
+        saveStores();
+        if (saveExecutor != null) {
+            saveExecutor.shutdown();
+        }
+        if (loadExecutor != null) {
+            loadExecutor.shutdownNow();
+        }
+        loadingStores.clear();
+        if (segments != null) {
+            try {
+                segments.close();
+            } catch (IOException e) {
+                WolfyUtilities.getWUPlugin().getLogger().warning("Failed to close player data: " + e.getMessage());
+            }
+            segments = null;
         }
+        legacyFiles = null;
+        indexedStores.clear();
+    }
+
+    /**
+     * Saves the store of the player asynchronously.<br>
+     * The store is encoded right away on the calling thread, while the file I/O happens on the save thread.
+     *
+     * @param uuid The uuid of the player.
+     * @return A future that completes once the store is written.
+     */
+    public static CompletableFuture<Void> saveStoreAsync(@NotNull UUID uuid) {
+        PlayerStore store = indexedStores.get(uuid);
+        if (store == null) return CompletableFuture.completedFuture(null);
+        return writeStores(encodeStores(Map.of(uuid, store).entrySet().iterator(), 1, false));
     }
 
     @NotNull
@@ -103,14 +234,165 @@ public class PlayerUtils {
         return getStore(player.getUniqueId());
     }
 
+    /**
+     * Gets the store of the player.<br>
+     * If the store is not cached yet, then it is loaded synchronously, unless it was already prefetched (See {@link #prefetchStore(UUID)}).
+     * Prefer {@link #getStoreAsync(UUID)} for players that might not be cached.<br>
+     * <b>Must be called on the main thread!</b>
+     *
+     * @param uuid The uuid of the player.
+     * @return The store of the player.
+     */
     @NotNull
     public static PlayerStore getStore(@NotNull UUID uuid) {
-        indexedStores.computeIfAbsent(uuid, key -> {
-            var playerStore = new PlayerStore();
-            playerStore.save(key);
-            return playerStore;
+        PlayerStore store = indexedStores.get(uuid);
+        if (store != null) return store;
+        return cacheLoadedStore(uuid, loadingStores.get(uuid));
+    }
+
+    /**
+     * Gets the store of the player without blocking the calling thread.<br>
+     * If the store is not cached yet, then it is loaded asynchronously.
+     * The returned future is always completed on the main thread, once the store is cached.
+     *
+     * @param uuid The uuid of the player.
+     * @return A future of the store of the player.
+     */
+    public static CompletableFuture<PlayerStore> getStoreAsync(@NotNull UUID uuid) {
+        if (Bukkit.isPrimaryThread()) {
+            PlayerStore store = indexedStores.get(uuid);
+            if (store != null) return CompletableFuture.completedFuture(store);
+        }
+        CompletableFuture<PlayerStore> load = loadStoreAsync(uuid);
+        return load.thenApplyAsync(loadedStore -> cacheLoadedStore(uuid, load), runnable -> Bukkit.getScheduler().runTask(WolfyUtilities.getWUPlugin(), runnable));
+    }
+
+    /**
+     * Starts to load the store of the player in the background, so it is ready once it is requested on the main thread.<br>
+     * This is called when a player is about to join the server, so the store doesn't need to be loaded on the main thread.<br>
+     * If the store is not claimed within {@link #PREFETCH_EXPIRY_TICKS}, the prefetch is discarded.<br>
+     * Can be called from any thread.
+     *
+     * @param uuid The uuid of the player.
+     */
+    public static void prefetchStore(@NotNull UUID uuid) {
+        CompletableFuture<PlayerStore> load = loadStoreAsync(uuid);
+        Bukkit.getScheduler().runTaskLater(WolfyUtilities.getWUPlugin(), () -> loadingStores.remove(uuid, load), PREFETCH_EXPIRY_TICKS);
+    }
+
+    /**
+     * Discards the prefetched store of the player, e.g. when the player was not allowed to join after all, or left the server.
+     *
+     * @param uuid The uuid of the player.
+     */
+    public static void discardPrefetchedStore(@NotNull UUID uuid) {
+        loadingStores.remove(uuid);
+    }
+
+    private static CompletableFuture<PlayerStore> loadStoreAsync(UUID uuid) {
+        return loadingStores.computeIfAbsent(uuid, key -> {
+            if (loadExecutor == null || loadExecutor.isShutdown()) {
+                return CompletableFuture.completedFuture(PlayerStore.load(key));
+            }
+            return CompletableFuture.supplyAsync(() -> PlayerStore.load(key), loadExecutor);
         });
-        return indexedStores.get(uuid);
+    }
+
+    /**
+     * Caches the store, that was loaded by the specified load, unless there is already a cached store.<br>
+     * Loads that were discarded in the meantime might be outdated, in which case the store is loaded again synchronously.
+     *
+     * @param uuid The uuid of the player.
+     * @param load The load of the store; or null to load the store synchronously.
+     * @return The cached store.
+     */
+    private static PlayerStore cacheLoadedStore(UUID uuid, @Nullable CompletableFuture<PlayerStore> load) {
+        PlayerStore store = indexedStores.get(uuid);
+        if (store != null) {
+            if (load != null) {
+                loadingStores.remove(uuid, load);
+            }
+            return store;
+        }
+        store = load != null && loadingStores.remove(uuid, load) ? load.join() : PlayerStore.load(uuid);
+        indexedStores.put(uuid, store);
+        evictOfflineStores();
+        return store;
+    }
+
+    /**
+     * Reads the saved data of the store. Data, that is about to be written, takes precedence over the saved data.<br>
+     * Stores, that are not in the segments (e.g. the migration failed), are read from the legacy store files.
+     */
+    @Nullable
+    static byte[] readStoreData(UUID uuid) throws IOException {
+        byte[] pending = pendingWrites.get(uuid);
+        if (pending != null) return pending;
+        PlayerStoreSegments currentSegments = segments;
+        byte[] data = currentSegments != null ? currentSegments.read(uuid) : null;
+        if (data == null) {
+            PlayerStoreFiles currentLegacyFiles = legacyFiles;
+            return currentLegacyFiles != null ? currentLegacyFiles.read(uuid) : null;
+        }
+        return data;
+    }
+
+    /**
+     * Evicts the least recently used stores of offline players, once there are more than {@link #MAX_CACHED_OFFLINE_STORES} cached.<br>
+     * The evicted stores are saved asynchronously. Nothing is evicted, if there is no storage to save them to.
+     */
+    private static void evictOfflineStores() {
+        if (getWriteStorage() == null) return;
+        int excess = indexedStores.size() - Bukkit.getOnlinePlayers().size() - MAX_CACHED_OFFLINE_STORES;
+        if (excess <= 0) return;
+        writeStores(encodeStores(indexedStores.entrySet().iterator(), excess, true));
+    }
+
+    /**
+     * Encodes the stores of the iterator.
+     *
+     * @param stores       The iterator of the stores to encode.
+     * @param limit        The max amount of stores to encode.
+     * @param evictOffline If the stores of offline players should be removed from the iterator and online players skipped.
+     * @return The encoded stores.
+     */
+    private static Map<UUID, byte[]> encodeStores(Iterator<Map.Entry<UUID, PlayerStore>> stores, int limit, boolean evictOffline) {
+        Map<UUID, byte[]> records = new HashMap<>();
+        while (records.size() < limit && stores.hasNext()) {
+            var entry = stores.next();
+            if (evictOffline && Bukkit.getPlayer(entry.getKey()) != null) continue;
+            try {
+                records.put(entry.getKey(), entry.getValue().encode());
+                if (evictOffline) {
+                    stores.remove();
+                    loadingStores.remove(entry.getKey()); // A load that was started before, would be outdated.
+                }
+            } catch (IOException e) {
+                WolfyUtilities.getWUCore().getConsole().warn("Error saving player store for " + entry.getKey() + "!");
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Writes the encoded stores on the save thread.<br>
+     * All writes go through the same thread, so they are written in the same order they were encoded in.
+     */
+    private static CompletableFuture<Void> writeStores(Map<UUID, byte[]> records) {
+        PlayerStoreStorage target = getWriteStorage();
+        if (records.isEmpty() || target == null || saveExecutor == null || saveExecutor.isShutdown()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        pendingWrites.putAll(records);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                target.write(records);
+            } catch (IOException e) {
+                WolfyUtilities.getWUPlugin().getLogger().severe("Failed to save " + records.size() + " player stores: " + e.getMessage());
+            } finally {
+                records.forEach(pendingWrites::remove); // Only removes the data, if it wasn't replaced by a newer write in the meantime.
+            }
+        }, saveExecutor);
     }
 
 }
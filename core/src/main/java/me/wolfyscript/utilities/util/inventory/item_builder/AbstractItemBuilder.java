@@ -72,10 +72,22 @@ public abstract class AbstractItemBuilder<T extends AbstractItemBuilder<?>> {
 
     public abstract ItemStack create();
 
+    /**
+     * Called by the builder methods after they modified the item.
+     *
+     * @return This {@link AbstractItemBuilder} instance.
+     */
     private T get() {
+        onItemModified();
         return typeClass.cast(this);
     }
 
+    /**
+     * Called each time the item was modified by one of the builder methods.
+     */
+    protected void onItemModified() {
+    }
+
     /**
      * @param itemMeta The ItemMeta to add to the ItemStack.
      * @return This {@link AbstractItemBuilder} instance. Used for chaining of methods.
@@ -166,7 +178,13 @@ public abstract class AbstractItemBuilder<T extends AbstractItemBuilder<?>> {
      * Checks if this item has Custom Durability set.
      */
     public boolean hasCustomDurability() {
-        var itemMeta = getItemMeta();
+        return hasCustomDurability(getItemMeta());
+    }
+
+    /**
+     * Checks if the ItemMeta has Custom Durability set.
+     */
+    public boolean hasCustomDurability(ItemMeta itemMeta) {
         if (itemMeta != null) {
             return itemMeta.getPersistentDataContainer().has(CUSTOM_DURABILITY_VALUE, PersistentDataType.INTEGER);
         }
@@ -348,7 +366,17 @@ public abstract class AbstractItemBuilder<T extends AbstractItemBuilder<?>> {
     }
 
     public String getPlayerHeadValue() {
-        if (getItemMeta() instanceof SkullMeta) {
+        return getPlayerHeadValue(getItemMeta());
+    }
+
+    /**
+     * Gets the texture value of the player head, using an already available ItemMeta of this item to check if it is a player head.
+     *
+     * @param itemMeta The ItemMeta of this item.
+     * @return The texture value of the player head; or an empty String if it isn't a player head, or has no texture.
+     */
+    public String getPlayerHeadValue(ItemMeta itemMeta) {
+        if (itemMeta instanceof SkullMeta) {
             NBTItem nbtItem = new NBTItem(getItemStack());
             NBTCompound skull = nbtItem.getCompound("SkullOwner");
             if (skull != null) {
@@ -24,7 +24,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.wolfyscript.utilities.bukkit.WolfyCoreBukkit;
 import com.wolfyscript.utilities.bukkit.items.CustomItemBlockData;
-import me.wolfyscript.utilities.api.WolfyUtilities;
 import me.wolfyscript.utilities.util.Keyed;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.entity.PlayerUtils;
@@ -34,20 +33,17 @@ import me.wolfyscript.utilities.util.particles.pos.ParticlePosBlock;
 import me.wolfyscript.utilities.util.particles.pos.ParticlePosEntity;
 import me.wolfyscript.utilities.util.particles.pos.ParticlePosLocation;
 import me.wolfyscript.utilities.util.particles.pos.ParticlePosPlayer;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +91,7 @@ public class ParticleAnimation implements Keyed {
     private final int interval;
     private final int repetitions;
     private final Map<Integer, List<ParticleEffectSettings>> effects;
+    private ParticleLOD lod = null;
 
     @JsonCreator
     public ParticleAnimation(@JsonProperty("effects") Map<Integer, List<ParticleEffectSettings>> effects) {
@@ -200,6 +197,23 @@ public class ParticleAnimation implements Keyed {
         return key;
     }
 
+    /**
+     * @return The level of detail of the effects of this animation; or null if they are drawn in full detail.
+     */
+    @Nullable
+    public ParticleLOD getLod() {
+        return lod;
+    }
+
+    /**
+     * Sets the level of detail of the effects of this animation. Effects that have their own level of detail use that one instead.
+     *
+     * @param lod The level of detail; or null to draw the effects in full detail.
+     */
+    public void setLod(@Nullable ParticleLOD lod) {
+        this.lod = lod;
+    }
+
     public void setKey(NamespacedKey key) {
         this.key = key;
     }
@@ -215,6 +229,7 @@ public class ParticleAnimation implements Keyed {
                 ", interval=" + interval +
                 ", repetitions=" + repetitions +
                 ", effects=" + effects +
+                ", lod=" + lod +
                 '}';
     }
 
@@ -231,12 +246,12 @@ public class ParticleAnimation implements Keyed {
      * You can stop the scheduler at any time using its corresponding {@link UUID} and the {@link ParticleUtils#stopAnimation(UUID)}.<br>
      * If a continues animation is spawned, it is required to stop it manually if no longer needed, as it... well would continue forever.
      */
-    public class Scheduler implements Runnable {
+    public class Scheduler implements Runnable, ParticleScheduler.Tickable {
 
-        private BukkitTask task = null;
+        private ParticleScheduler.Handle handle = null;
         private UUID uuid = null;
         private final Player receiver;
-        private final ParticlePos pos;
+        private ParticlePos pos;
         private int tick = 0;
         private int loop = 0;
 
@@ -285,7 +300,7 @@ public class ParticleAnimation implements Keyed {
          * @return The UUID of the running animation.
          */
         public UUID start() {
-            this.task = Bukkit.getScheduler().runTaskTimer(WolfyUtilities.getWUPlugin(), this, delay, 1);
+            this.handle = ParticleScheduler.schedule(this, delay);
             this.uuid = ParticleUtils.addScheduler(this);
             return uuid;
         }
@@ -294,19 +309,31 @@ public class ParticleAnimation implements Keyed {
          * Stops the current running animation.
          */
         public void stop() {
-            Objects.requireNonNull(task).cancel();
+            Objects.requireNonNull(handle).cancel();
             ParticleUtils.removeScheduler(uuid);
             this.uuid = null;
-            this.task = null;
+            this.handle = null;
         }
 
         public boolean isRunning() {
-            return task != null && !task.isCancelled();
+            return handle != null && !handle.isCancelled();
+        }
+
+        /**
+         * Moves the animation to the specified position, without restarting it.
+         *
+         * @param pos The new position of the animation.
+         */
+        public void setPos(ParticlePos pos) {
+            this.pos = pos;
+            this.cachedOffsetPos.clear();
+            this.tickSinceLastCheck = 81; // Check the spawn conditions at the new position right away.
         }
 
         /**
          * This checks if the location is valid to spawn the effects and make more resource intensive calculations.
-         * The spawn location is valid if it still exists and there are players nearby (64 block range).
+         * The spawn location is valid if it still exists and there are players nearby (64 block range).<br>
+         * The nearby players are looked up in the shared {@link ParticleViewers} index, instead of scanning the entities around the location.
          * <p>
          * The delay between checks is currently 80 ticks (4 seconds).
          */
@@ -314,8 +341,7 @@ public class ParticleAnimation implements Keyed {
             if (tickSinceLastCheck > 80) {
                 Location loc = pos.getLocation();
                 if (loc != null && loc.getWorld() != null) {
-                    Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 32, 32, 32, entity1 -> entity1 instanceof Player);
-                    this.spawnEffects = !entities.isEmpty();
+                    this.spawnEffects = ParticleViewers.hasViewers(loc, ParticleViewers.DEFAULT_RANGE);
                 } else {
                     this.spawnEffects = false;
                 }
@@ -342,14 +368,20 @@ public class ParticleAnimation implements Keyed {
                         ParticlePos particlePos = pos.shallowCopy();
                         particlePos.setOffset(settings.offset);
                         return particlePos;
-                    }), receiver);
+                    }), receiver, lod);
                 }
             }
             tick++;
         }
 
+        @Override
+        public boolean tick() {
+            run();
+            return isRunning();
+        }
+
         /**
-         * The core of the scheduler. This is actually executed each tick by the thread handling it.
+         * The core of the scheduler. This is actually executed each tick by the {@link ParticleScheduler}.
          */
         public void run() {
             if (repetitions <= -1 || loop < repetitions) {
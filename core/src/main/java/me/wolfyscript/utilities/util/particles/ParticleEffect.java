@@ -27,7 +27,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
-import me.wolfyscript.utilities.api.WolfyUtilities;
 import me.wolfyscript.utilities.util.Keyed;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.json.jackson.JacksonUtil;
@@ -38,7 +37,6 @@ import me.wolfyscript.utilities.util.particles.pos.ParticlePos;
 import me.wolfyscript.utilities.util.particles.pos.ParticlePosLocation;
 import me.wolfyscript.utilities.util.particles.timer.Timer;
 import me.wolfyscript.utilities.util.particles.timer.TimerLinear;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -90,6 +88,7 @@ public class ParticleEffect implements Keyed {
     private double extra = 0d;
     private Timer timer = new TimerLinear();
     private Animator animator;
+    private ParticleLOD lod = null;
 
     @JsonCreator
     public ParticleEffect(@JsonProperty("particle") Particle particle) {
@@ -228,6 +227,23 @@ public class ParticleEffect implements Keyed {
         this.animator = animator;
     }
 
+    /**
+     * @return The level of detail of this effect; or null if it is always drawn in full detail.
+     */
+    @Nullable
+    public ParticleLOD getLod() {
+        return lod;
+    }
+
+    /**
+     * Sets the level of detail of this effect. Takes precedence over the level of detail of the {@link ParticleAnimation} it is spawned by.
+     *
+     * @param lod The level of detail; or null to always draw the effect in full detail.
+     */
+    public void setLod(@Nullable ParticleLOD lod) {
+        this.lod = lod;
+    }
+
     @Override
     public String toString() {
         return "ParticleEffect{" +
@@ -243,6 +259,7 @@ public class ParticleEffect implements Keyed {
                 ", extra=" + extra +
                 ", timer=" + timer +
                 ", animator=" + animator +
+                ", lod=" + lod +
                 '}';
     }
 
@@ -281,6 +298,17 @@ public class ParticleEffect implements Keyed {
         new Task(location, player).run();
     }
 
+    /**
+     * Spawns the effect at the specified location, using the specified level of detail, if this effect has none of its own.
+     *
+     * @param location The location to spawn the effect at. Might be a variable target.
+     * @param player   The optional player to send the particles to.
+     * @param lod      The level of detail of the {@link ParticleAnimation}, that spawns this effect.
+     */
+    public void spawn(ParticlePos location, @Nullable Player player, @Nullable ParticleLOD lod) {
+        new Task(location, player, lod).run();
+    }
+
     public void spawn(@NotNull Block block) {
         new Task(block.getLocation()).run();
     }
@@ -290,13 +318,15 @@ public class ParticleEffect implements Keyed {
     }
 
     /**
-     * Task that executes the particle effect and runs it in a new thread.
+     * Task that executes the particle effect each tick via the {@link ParticleScheduler}, until the timer stops.
      */
     public class Task implements Runnable {
 
         private final Player player;
         private final ParticlePos origin;
+        private final ParticleLOD taskLod;
         private final Timer.Runner runner = timer.createRunner();
+        private int frame = 0;
 
         public Task(Location origin) {
             this(origin, null);
@@ -312,21 +342,36 @@ public class ParticleEffect implements Keyed {
         }
 
         public Task(ParticlePos origin, Player player) {
+            this(origin, player, null);
+        }
+
+        /**
+         * @param origin    The location to spawn the effect at.
+         * @param player    The optional player to send the particles to.
+         * @param parentLod The level of detail to use, if the effect has none of its own.
+         */
+        public Task(ParticlePos origin, Player player, @Nullable ParticleLOD parentLod) {
             this.player = player;
             this.origin = origin;
+            this.taskLod = lod != null ? lod : parentLod;
         }
 
         @Override
         public void run() {
-            Bukkit.getScheduler().runTaskTimer(WolfyUtilities.getWUPlugin(), task -> {
-                if (!task.isCancelled()) {
+            ParticleScheduler.schedule(() -> {
+                int currentFrame = frame++;
+                if (taskLod != null && taskLod.shouldDropFrame(currentFrame)) {
+                    runner.increase();
+                    return !runner.shouldStop();
+                }
+                ParticleLOD.begin(taskLod, currentFrame);
+                try {
                     animator.draw(runner, ParticleEffect.this, origin.getLocation(), player);
-                    if (runner.shouldStop()) {
-                        task.cancel();
-                    }
+                } finally {
+                    ParticleLOD.end();
                 }
-            }, 0, 1);
-
+                return !runner.shouldStop();
+            }, 0);
         }
     }
 }
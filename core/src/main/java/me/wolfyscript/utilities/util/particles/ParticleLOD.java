@@ -0,0 +1,266 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.util.particles;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The level of detail of a {@link ParticleEffect} or {@link ParticleAnimation}, which reduces the amount of particles sent to the players
+ * that are further away, and the amount of frames drawn while the {@link ParticleScheduler} is under pressure.<br>
+ * <br>
+ * <b>Distance bands</b>
+ * <p>
+ *     Each {@link Band} applies to the viewers, that are at least {@link Band#distance()} blocks away from the origin of the frame.<br>
+ *     The <strong>density</strong> (0 - 1) is the fraction of points of each frame, that are sent to those viewers. 0 sends no particles at all.<br>
+ *     The <strong>frameInterval</strong> sends only every n-th frame to those viewers. 1 sends every frame.<br>
+ *     Viewers that are closer than the first band receive the full detail.
+ * </p>
+ * <b>Tick pressure</b>
+ * <p>
+ *     If <strong>dropFrames</strong> is enabled, only every second frame is drawn, while the last tick of the {@link ParticleScheduler}
+ *     took longer than the <strong>pressure</strong> fraction of its tick budget.<br>
+ *     The timer of the effect is still increased, so the duration of the effect stays the same.
+ * </p>
+ * Example:
+ * <pre>
+ * "lod": {
+ *   "bands": [
+ *     { "distance": 12, "density": 0.5, "frameInterval": 1 },
+ *     { "distance": 24, "density": 0.25, "frameInterval": 2 }
+ *   ],
+ *   "dropFrames": true,
+ *   "pressure": 0.8
+ * }
+ * </pre>
+ * The frames are drawn and sent on the main thread, so the current frame is kept in a static context while the {@link ParticleEffect} is drawn
+ * (See {@link #begin(ParticleLOD, int)}), instead of passing it through each {@link me.wolfyscript.utilities.util.particles.animators.Animator}.
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+public class ParticleLOD {
+
+    private static ParticleLOD active = null;
+    private static int activeFrame = 0;
+    private static long droppedFrames = 0;
+
+    private List<Band> bands = List.of();
+    private boolean dropFrames = true;
+    private double pressure = 0.8;
+
+    public ParticleLOD() {
+    }
+
+    public ParticleLOD(List<Band> bands, boolean dropFrames, double pressure) {
+        setBands(bands);
+        this.dropFrames = dropFrames;
+        this.pressure = pressure;
+    }
+
+    @JsonGetter("bands")
+    public List<Band> getBands() {
+        return bands;
+    }
+
+    /**
+     * Sets the distance bands, which are sorted by their distance.
+     *
+     * @param bands The new distance bands.
+     */
+    @JsonSetter("bands")
+    public void setBands(List<Band> bands) {
+        List<Band> sorted = new ArrayList<>(bands);
+        sorted.sort(Comparator.comparingDouble(Band::distance));
+        this.bands = List.copyOf(sorted);
+    }
+
+    public boolean isDropFrames() {
+        return dropFrames;
+    }
+
+    public void setDropFrames(boolean dropFrames) {
+        this.dropFrames = dropFrames;
+    }
+
+    public double getPressure() {
+        return pressure;
+    }
+
+    public void setPressure(double pressure) {
+        this.pressure = pressure;
+    }
+
+    /**
+     * Gets the band, that applies to viewers at the specified squared distance.
+     *
+     * @param distanceSquared The squared distance of the viewer to the origin.
+     * @return The band with the largest distance, that is still below the distance of the viewer; or null if the viewer gets the full detail.
+     */
+    @Nullable
+    public Band getBand(double distanceSquared) {
+        Band result = null;
+        for (Band band : bands) {
+            if (band.distance() * band.distance() > distanceSquared) break;
+            result = band;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the specified frame should be skipped, because the {@link ParticleScheduler} is under pressure.
+     *
+     * @param frame The frame of the effect.
+     * @return true if the frame should not be drawn; false otherwise.
+     */
+    public boolean shouldDropFrame(int frame) {
+        if (!dropFrames || (frame & 1) == 0) return false;
+        if (ParticleScheduler.getLastTickNanos() > ParticleScheduler.getTickBudget() * pressure) {
+            droppedFrames++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sets the level of detail, that is applied to the particles sent via {@link #send(ParticleBatch, Location, Collection)}, until {@link #end()} is called.
+     *
+     * @param lod   The level of detail; or null to send the full detail.
+     * @param frame The frame of the effect, that is drawn.
+     */
+    public static void begin(@Nullable ParticleLOD lod, int frame) {
+        active = lod;
+        activeFrame = frame;
+    }
+
+    /**
+     * Resets the level of detail set by {@link #begin(ParticleLOD, int)}.
+     */
+    public static void end() {
+        active = null;
+        activeFrame = 0;
+    }
+
+    /**
+     * Sends the batch to the viewers, using the level of detail of the frame, that is currently drawn.<br>
+     * The viewers are grouped by the amount of points they receive, so the batch is sent once per group.
+     *
+     * @param batch   The batch to send.
+     * @param origin  The origin of the frame.
+     * @param viewers The players that can see the particles.
+     */
+    public static void send(ParticleBatch batch, Location origin, Collection<? extends Player> viewers) {
+        if (active == null || active.bands.isEmpty()) {
+            batch.send(viewers);
+            return;
+        }
+        List<Player> fullDetail = new ArrayList<>(viewers.size());
+        List<List<Player>> stepGroups = null;
+        for (Player viewer : viewers) {
+            Location location = viewer.getLocation();
+            double dx = location.getX() - origin.getX();
+            double dy = location.getY() - origin.getY();
+            double dz = location.getZ() - origin.getZ();
+            Band band = active.getBand(dx * dx + dy * dy + dz * dz);
+            if (band == null) {
+                fullDetail.add(viewer);
+                continue;
+            }
+            if (band.density() <= 0 || (band.frameInterval() > 1 && activeFrame % band.frameInterval() != 0)) continue;
+            int step = band.getStep();
+            if (step <= 1) {
+                fullDetail.add(viewer);
+                continue;
+            }
+            if (stepGroups == null) {
+                stepGroups = new ArrayList<>();
+            }
+            while (stepGroups.size() < step) {
+                stepGroups.add(null);
+            }
+            List<Player> group = stepGroups.get(step - 1);
+            if (group == null) {
+                group = new ArrayList<>();
+                stepGroups.set(step - 1, group);
+            }
+            group.add(viewer);
+        }
+        if (!fullDetail.isEmpty()) {
+            batch.send(fullDetail);
+        }
+        if (stepGroups != null) {
+            for (int i = 0; i < stepGroups.size(); i++) {
+                List<Player> group = stepGroups.get(i);
+                if (group != null) {
+                    batch.send(group, i + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The total amount of frames, that were dropped, because the {@link ParticleScheduler} was under pressure.
+     */
+    public static long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    @Override
+    public String toString() {
+        return "ParticleLOD{" +
+                "bands=" + bands +
+                ", dropFrames=" + dropFrames +
+                ", pressure=" + pressure +
+                '}';
+    }
+
+    /**
+     * The level of detail of the viewers, that are at least the specified distance away.
+     *
+     * @param distance      The min distance (in blocks) of the viewers.
+     * @param density       The fraction (0 - 1) of points, that are sent to the viewers. Defaults to 1, if not set.
+     * @param frameInterval Only every n-th frame is sent to the viewers. Defaults to 1, if not set.
+     */
+    public record Band(double distance, double density, int frameInterval) {
+
+        @JsonCreator
+        public Band(@JsonProperty("distance") double distance, @JsonProperty("density") @Nullable Double density, @JsonProperty("frameInterval") @Nullable Integer frameInterval) {
+            this(distance, density != null ? density : 1, frameInterval != null ? frameInterval : 1);
+        }
+
+        /**
+         * @return The step between the points, that are sent, so that about the density of the points is sent.
+         */
+        @JsonIgnore
+        public int getStep() {
+            return density >= 1 ? 1 : (int) Math.round(1 / density);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.wolfyscript.utilities.util.particles;
+
+import me.wolfyscript.utilities.api.WolfyUtilities;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Drives all the running {@link ParticleAnimation}s and {@link ParticleEffect}s from a single task, instead of one task per animation/effect.<br>
+ * <br>
+ * The running entries are kept in a flat array. Starting an entry appends it to the array, stopping it only marks it as cancelled,
+ * so both are O(1). Cancelled entries are removed at the end of each tick in a single pass.<br>
+ * To keep the server from lagging, the time spent per tick is limited (See {@link #setTickBudget(long)}).
+ * Once the budget is used up, the remaining entries are deferred to the next tick, which then continues where the previous one stopped.<br>
+ * Entries that throw an exception while ticking are logged and cancelled, so they don't affect the other entries.<br>
+ * <br>
+ * The task is started once the first entry is scheduled and cancelled once there are no entries left.<br>
+ * <b>Must only be used on the main thread!</b>
+ */
+public final class ParticleScheduler {
+
+    /**
+     * The amount of entries that are ticked in between checks of the tick budget.
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 16;
+
+    private static Handle[] entries = new Handle[64];
+    private static int size = 0;
+    private static int cancelled = 0;
+    /**
+     * The index of the entry that is ticked first. Not 0, if the previous tick ran out of budget.
+     */
+    private static int cursor = 0;
+    private static BukkitTask task;
+    private static long tickBudget = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static long lastTickNanos = 0;
+    private static long totalTickNanos = 0;
+    private static long ticks = 0;
+    /**
+     * The number of the tick that is currently running; or -1 while not ticking.
+     */
+    private static long currentTick = -1;
+    private static long deferredTicks = 0;
+
+    private ParticleScheduler() {
+    }
+
+    /**
+     * Schedules the entry to be ticked once per tick, until it is cancelled, or {@link Tickable#tick()} returns false.
+     *
+     * @param tickable The entry to tick.
+     * @param delay    The delay in ticks before it is ticked for the first time.
+     * @return The handle that can be used to cancel the entry.
+     */
+    public static Handle schedule(Tickable tickable, int delay) {
+        var handle = new Handle(tickable, Math.max(delay, 0));
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = handle;
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(WolfyUtilities.getWUPlugin(), ParticleScheduler::tick, 0, 1);
+        }
+        return handle;
+    }
+
+    /**
+     * Cancels all entries and stops the task. Called when the plugin is disabled.
+     */
+    public static void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (int i = 0; i < size; i++) {
+            entries[i].cancelled = true;
+            entries[i] = null;
+        }
+        size = 0;
+        cancelled = 0;
+        cursor = 0;
+    }
+
+    private static void tick() {
+        long start = System.nanoTime();
+        long deadline = start + tickBudget;
+        int count = size; // Entries scheduled while ticking are ticked in the next tick.
+        currentTick = ticks;
+        int next = cursor;
+        for (int i = 0; i < count; i++) {
+            if (i != 0 && i % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                deferredTicks++;
+                break;
+            }
+            Handle handle = entries[next];
+            if (++next == count) {
+                next = 0;
+            }
+            if (handle.cancelled) continue;
+            if (handle.delay > 0) {
+                handle.delay--;
+                continue;
+            }
+            try {
+                if (!handle.tickable.tick()) {
+                    handle.cancel();
+                }
+            } catch (Exception ex) {
+                // Isolate the failing entry, so it neither blocks the remaining entries nor keeps failing each tick.
+                handle.cancel();
+                WolfyUtilities.getWUPlugin().getLogger().log(Level.SEVERE, "Stopped particle animation/effect, because it threw an exception while ticking!", ex);
+            }
+        }
+        cursor = next;
+        currentTick = -1;
+        removeCancelled();
+        if (size == 0 && task != null) {
+            task.cancel();
+            task = null;
+        }
+        lastTickNanos = System.nanoTime() - start;
+        totalTickNanos += lastTickNanos;
+        ticks++;
+    }
+
+    /**
+     * Removes the cancelled entries, while keeping the order of the remaining ones.
+     */
+    private static void removeCancelled() {
+        if (cancelled == 0) return;
+        int live = 0;
+        int newCursor = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == cursor) {
+                newCursor = live;
+            }
+            Handle handle = entries[i];
+            if (!handle.cancelled) {
+                entries[live++] = handle;
+            }
+        }
+        Arrays.fill(entries, live, size, null);
+        size = live;
+        cursor = newCursor < live ? newCursor : 0;
+        cancelled = 0;
+    }
+
+    /**
+     * Gets the number of the tick, that is currently running. It is unique for each tick, so it can be used to cache data for the duration of a tick.
+     *
+     * @return The number of the current tick; or -1 if the entries are not ticked right now.
+     */
+    public static long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Sets the max amount of time that may be spent per tick. Entries that are not ticked in time, are deferred to the next tick.
+     *
+     * @param nanos The budget in nanoseconds.
+     */
+    public static void setTickBudget(long nanos) {
+        tickBudget = nanos;
+    }
+
+    public static long getTickBudget() {
+        return tickBudget;
+    }
+
+    /**
+     * @return The amount of animations and effects that are currently running.
+     */
+    public static int getActiveCount() {
+        return size - cancelled;
+    }
+
+    /**
+     * @return The time (in nanoseconds) the last tick took.
+     */
+    public static long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * @return The average time (in nanoseconds) a tick took since the server started.
+     */
+    public static long getAverageTickNanos() {
+        return ticks == 0 ? 0 : totalTickNanos / ticks;
+    }
+
+    /**
+     * @return The amount of ticks that ran out of budget and deferred entries to the next tick.
+     */
+    public static long getDeferredTicks() {
+        return deferredTicks;
+    }
+
+    /**
+     * An entry of the scheduler, like a running animation or effect.
+     */
+    @FunctionalInterface
+    public interface Tickable {
+
+        /**
+         * Called once each tick.
+         *
+         * @return true to keep ticking; false to remove the entry.
+         */
+        boolean tick();
+
+    }
+
+    /**
+     * The handle of a scheduled {@link Tickable}, used to cancel it.
+     */
+    public static final class Handle {
+
+        private final Tickable tickable;
+        private int delay;
+        private boolean cancelled = false;
+
+        private Handle(Tickable tickable, int delay) {
+            this.tickable = tickable;
+            this.delay = delay;
+        }
+
+        /**
+         * Cancels the entry, so it is no longer ticked. Does nothing if it is already cancelled.
+         */
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            ParticleScheduler.cancelled++;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
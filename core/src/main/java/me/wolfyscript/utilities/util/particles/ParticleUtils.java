@@ -20,6 +20,7 @@ package me.wolfyscript.utilities.util.particles;
 
 import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.util.NamespacedKey;
+import me.wolfyscript.utilities.util.particles.pos.ParticlePosBlock;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
@@ -79,6 +80,22 @@ public class ParticleUtils {
         }
     }
 
+    /**
+     * Moves the Effect that is currently active to the specified block, without restarting it.
+     * If the uuid is null or the list doesn't contain it this method does nothing.
+     *
+     * @param uuid  The {@link UUID} of the animation.
+     * @param block The block to move the animation to.
+     */
+    public static void moveAnimation(UUID uuid, Block block) {
+        if (uuid != null) {
+            ParticleAnimation.Scheduler scheduler = activeAnimations.get(uuid);
+            if (scheduler != null) {
+                scheduler.setPos(new ParticlePosBlock(block));
+            }
+        }
+    }
+
     static void removeScheduler(UUID uuid) {
         if (uuid != null) {
             ParticleAnimation.Scheduler scheduler = activeAnimations.get(uuid);
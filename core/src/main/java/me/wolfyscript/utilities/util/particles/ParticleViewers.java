@@ -0,0 +1,152 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.wolfyscript.utilities.util.particles;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Index of the online players by world and chunk, which is shared by all the particle animations and effects to find the players that can see them.<br>
+ * <br>
+ * Instead of each animation scanning the entities around it, the index is built once per tick of the {@link ParticleScheduler} (when it is first used in that tick),
+ * and lookups only check the players in the chunks around the location.
+ * Lookups outside of the scheduler tick (e.g. effects that are spawned directly) rebuild the index each time.<br>
+ * <b>Must only be used on the main thread!</b>
+ */
+public final class ParticleViewers {
+
+    /**
+     * The default range (in blocks) in which players can see particles.
+     */
+    public static final double DEFAULT_RANGE = 32;
+
+    private static final Map<UUID, Map<Long, List<Viewer>>> playersByWorld = new HashMap<>();
+    /**
+     * The scheduler tick, in which the index was built; or -1 if it is not valid for any tick.
+     */
+    private static long builtTick = -1;
+
+    private ParticleViewers() {
+    }
+
+    /**
+     * Checks if there is at least one player within the range of the location.
+     *
+     * @param location The location of the particles.
+     * @param range    The max distance on each axis.
+     * @return true if a player can see the location; false otherwise.
+     */
+    public static boolean hasViewers(Location location, double range) {
+        Map<Long, List<Viewer>> chunks = getChunks(location.getWorld());
+        if (chunks == null) return false;
+        int minX = floorChunk(location.getX() - range);
+        int maxX = floorChunk(location.getX() + range);
+        int minZ = floorChunk(location.getZ() - range);
+        int maxZ = floorChunk(location.getZ() + range);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<Viewer> viewers = chunks.get(chunkKey(x, z));
+                if (viewers == null) continue;
+                for (Viewer viewer : viewers) {
+                    if (viewer.isInRange(location, range)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the players within the range of the location.
+     *
+     * @param location The location of the particles.
+     * @param range    The max distance on each axis.
+     * @return A new list of the players that can see the location.
+     */
+    public static List<Player> getViewers(Location location, double range) {
+        List<Player> viewers = new ArrayList<>();
+        Map<Long, List<Viewer>> chunks = getChunks(location.getWorld());
+        if (chunks == null) return viewers;
+        int minX = floorChunk(location.getX() - range);
+        int maxX = floorChunk(location.getX() + range);
+        int minZ = floorChunk(location.getZ() - range);
+        int maxZ = floorChunk(location.getZ() + range);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<Viewer> chunkViewers = chunks.get(chunkKey(x, z));
+                if (chunkViewers == null) continue;
+                for (Viewer viewer : chunkViewers) {
+                    if (viewer.isInRange(location, range)) {
+                        viewers.add(viewer.player());
+                    }
+                }
+            }
+        }
+        return viewers;
+    }
+
+    private static Map<Long, List<Viewer>> getChunks(World world) {
+        if (world == null) return null;
+        long tick = ParticleScheduler.getCurrentTick();
+        if (tick == -1 || tick != builtTick) {
+            update();
+            builtTick = tick;
+        }
+        return playersByWorld.get(world.getUID());
+    }
+
+    /**
+     * Rebuilds the index from the online players.
+     */
+    private static void update() {
+        playersByWorld.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location location = player.getLocation();
+            World world = location.getWorld();
+            if (world == null) continue;
+            playersByWorld.computeIfAbsent(world.getUID(), uuid -> new HashMap<>())
+                    .computeIfAbsent(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), key -> new ArrayList<>(2))
+                    .add(new Viewer(player, location.getX(), location.getY(), location.getZ()));
+        }
+    }
+
+    private static int floorChunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    private static long chunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A player and its position at the time the index was built.
+     */
+    private record Viewer(Player player, double x, double y, double z) {
+
+        private boolean isInRange(Location location, double range) {
+            return Math.abs(x - location.getX()) <= range && Math.abs(y - location.getY()) <= range && Math.abs(z - location.getZ()) <= range;
+        }
+    }
+}
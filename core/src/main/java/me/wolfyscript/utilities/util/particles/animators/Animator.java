@@ -24,14 +24,24 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.annotation.JsonTypeIdResolver;
 import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.wolfyscript.utilities.bukkit.nms.fallback.FallbackParticleBatch;
+import java.util.List;
+import me.wolfyscript.utilities.api.WolfyUtilCore;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
+import me.wolfyscript.utilities.api.nms.NetworkUtil;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
 import me.wolfyscript.utilities.util.Keyed;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeIdResolver;
 import me.wolfyscript.utilities.util.json.jackson.KeyedTypeResolver;
 import me.wolfyscript.utilities.util.particles.ParticleEffect;
+import me.wolfyscript.utilities.util.particles.ParticleLOD;
+import me.wolfyscript.utilities.util.particles.ParticleViewers;
+import me.wolfyscript.utilities.util.particles.shapes.Shape;
 import me.wolfyscript.utilities.util.particles.timer.Timer;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -55,7 +65,8 @@ public abstract class Animator implements Keyed {
 
     /**
      * Spawns the {@link ParticleEffect} at the specified location in the world.
-     * This will send the particles to all players in range.
+     * This will send the particles to all players in range.<br>
+     * The particles are spawned via the Bukkit API, so the {@link ParticleLOD} of the effect is not applied. Use {@link #drawPoint(ParticleEffect, Location, Player)} instead.
      *
      * @param effect The effect to spawn.
      * @param location The location to spawn it on.
@@ -68,7 +79,8 @@ public abstract class Animator implements Keyed {
 
     /**
      * Spawns the {@link ParticleEffect} at the specified location in the world.
-     * If a player is specified only that player will receive the particles, else {@link #spawnParticle(ParticleEffect, Location)}
+     * If a player is specified only that player will receive the particles, else {@link #spawnParticle(ParticleEffect, Location)}<br>
+     * The particles are spawned via the Bukkit API, so the {@link ParticleLOD} of the effect is not applied. Use {@link #drawPoint(ParticleEffect, Location, Player)} instead.
      *
      * @param effect The effect to spawn.
      * @param location The location to spawn it on.
@@ -82,6 +94,96 @@ public abstract class Animator implements Keyed {
         }
     }
 
+    /**
+     * Creates a new {@link ParticleBatch} with the settings of the {@link ParticleEffect}.<br>
+     * Uses the {@link NetworkUtil} of the server version, which sends prebuilt packets, if it is available; otherwise the points are sent via the Bukkit API.
+     *
+     * @param effect The effect to create the batch for.
+     * @return A new empty batch.
+     */
+    protected ParticleBatch createBatch(ParticleEffect effect) {
+        Vector offset = effect.getOffset();
+        WolfyUtilCore core = WolfyUtilCore.getInstance();
+        NMSUtil nmsUtil = core != null ? core.getWolfyUtils().getNmsUtil() : null;
+        if (nmsUtil != null && nmsUtil.getNetworkUtil() != null) {
+            return nmsUtil.getNetworkUtil().createParticleBatch(effect.getParticle(), effect.getCount(), offset.getX(), offset.getY(), offset.getZ(), effect.getExtra(), effect.getData());
+        }
+        return new FallbackParticleBatch(effect.getParticle(), effect.getCount(), offset.getX(), offset.getY(), offset.getZ(), effect.getExtra(), effect.getData());
+    }
+
+    /**
+     * Sends the batch to the player, or to all players in range of the origin (See {@link ParticleViewers#DEFAULT_RANGE}).<br>
+     * The {@link ParticleLOD} of the effect, that is currently drawn, reduces the particles sent to players further away.
+     *
+     * @param batch  The batch to send.
+     * @param origin The origin of the particles, used to look up the players in range.
+     * @param player The player to send the particles to. If null, sends it to all players in range.
+     */
+    protected void sendBatch(ParticleBatch batch, Location origin, @Nullable Player player) {
+        if (batch.size() == 0) return;
+        ParticleLOD.send(batch, origin, player != null ? List.of(player) : ParticleViewers.getViewers(origin, ParticleViewers.DEFAULT_RANGE));
+    }
+
+    /**
+     * Spawns the {@link ParticleEffect} at the specified location, using a {@link ParticleBatch} of a single point, so the {@link ParticleLOD} of the effect is applied.
+     *
+     * @param effect   The effect to spawn.
+     * @param location The location to spawn it on.
+     * @param player   The player to send the particles to. If null, sends it to all players in range.
+     */
+    protected void drawPoint(ParticleEffect effect, Location location, @Nullable Player player) {
+        if (location.getWorld() == null) return;
+        ParticleBatch batch = createBatch(effect);
+        batch.add(location.getX(), location.getY(), location.getZ());
+        sendBatch(batch, location, player);
+    }
+
+    /**
+     * Spawns the {@link ParticleEffect} at each point of the frame (See {@link Shape#getFrame(double)}), relative to the origin.<br>
+     * All points are sent at once using a {@link ParticleBatch}.
+     *
+     * @param effect The effect to spawn.
+     * @param origin The origin of the frame.
+     * @param frame  The flat array of offsets ({@code [x0, y0, z0, x1, y1, z1, ...]}).
+     * @param player The player to send the particles to. If null, sends it to all players in range.
+     */
+    protected void drawFrame(ParticleEffect effect, Location origin, double[] frame, @Nullable Player player) {
+        if (origin.getWorld() == null || frame.length == 0) return;
+        double originX = origin.getX();
+        double originY = origin.getY();
+        double originZ = origin.getZ();
+        ParticleBatch batch = createBatch(effect);
+        for (int i = 0; i < frame.length; i += 3) {
+            batch.add(originX + frame[i], originY + frame[i + 1], originZ + frame[i + 2]);
+        }
+        sendBatch(batch, origin, player);
+    }
+
+    /**
+     * Spawns the {@link ParticleEffect} at each vertex of the shape at the specified time, relative to the origin.<br>
+     * Uses the cached frame of the shape (See {@link Shape#getFrame(double)}), or draws the vectors of the shape directly if the frame is not cached.
+     *
+     * @param effect The effect to spawn.
+     * @param origin The origin of the shape.
+     * @param shape  The shape to draw.
+     * @param time   The current time value from the timer.
+     * @param player The player to send the particles to. If null, sends it to all players in range.
+     */
+    protected void drawShape(ParticleEffect effect, Location origin, Shape shape, double time, @Nullable Player player) {
+        double[] frame = shape.getFrame(time);
+        if (frame != null) {
+            drawFrame(effect, origin, frame, player);
+            return;
+        }
+        if (origin.getWorld() == null) return;
+        double originX = origin.getX();
+        double originY = origin.getY();
+        double originZ = origin.getZ();
+        ParticleBatch batch = createBatch(effect);
+        shape.drawVectors(time, vector -> batch.add(originX + vector.getX(), originY + vector.getY(), originZ + vector.getZ()));
+        sendBatch(batch, origin, player);
+    }
+
     /**
      * Called each time a {@link ParticleEffect} is spawned.<br>
      * The {@link Timer.Runner} contains the current state of the effect, like tick, or other type specific data.
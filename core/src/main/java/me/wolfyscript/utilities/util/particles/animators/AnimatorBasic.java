@@ -39,7 +39,7 @@ public class AnimatorBasic extends Animator {
     @Override
     public void draw(Timer.Runner timer, ParticleEffect effect, Location origin, @Nullable Player player) {
         timer.increase();
-        spawnParticle(effect, origin, player);
+        drawPoint(effect, origin, player);
     }
 
 
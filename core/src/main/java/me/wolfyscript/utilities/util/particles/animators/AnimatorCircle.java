@@ -85,7 +85,7 @@ public class AnimatorCircle extends Animator {
         MathUtil.rotateAroundAxisZ(vec, zAxisCos, zAxisSin);
 
         origin.add(vec);
-        spawnParticle(effect, origin, player);
+        drawPoint(effect, origin, player);
         origin.subtract(vec);
     }
 
@@ -46,11 +46,7 @@ public class AnimatorShape extends Animator {
     @Override
     public void draw(Timer.Runner timer, ParticleEffect effect, Location origin, @Nullable Player player) {
         double time = timer.increase();
-        shape.drawVectors(time, vec -> {
-            origin.add(vec);
-            spawnParticle(effect, origin, player);
-            origin.subtract(vec);
-        });
+        drawShape(effect, origin, shape, time, player);
     }
 
     @Override
@@ -18,6 +18,7 @@
 
 package me.wolfyscript.utilities.util.particles.animators;
 
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
 import me.wolfyscript.utilities.util.NamespacedKey;
 import me.wolfyscript.utilities.util.particles.ParticleEffect;
 import me.wolfyscript.utilities.util.particles.shapes.ShapeSphere;
@@ -33,6 +34,25 @@ import org.jetbrains.annotations.Nullable;
 public class AnimatorSphere extends Animator {
 
     public static final NamespacedKey KEY = NamespacedKey.wolfyutilties("sphere");
+    /**
+     * The cos and sin values of the angles around the y-axis, which are the same for every sphere.
+     */
+    private static final double[] COS;
+    private static final double[] SIN;
+
+    static {
+        int count = 0;
+        for (double i = 0; i <= 2 * Math.PI; i += Math.PI / 40) {
+            count++;
+        }
+        COS = new double[count];
+        SIN = new double[count];
+        int index = 0;
+        for (double i = 0; i <= 2 * Math.PI; i += Math.PI / 40) {
+            COS[index] = Math.cos(i);
+            SIN[index++] = Math.sin(i);
+        }
+    }
 
     private final int radius;
 
@@ -48,14 +68,14 @@ public class AnimatorSphere extends Animator {
     @Override
     public void draw(Timer.Runner timer, ParticleEffect effect, Location origin, @Nullable Player player) {
         double time = timer.increase();
-        for (double i = 0; i <= 2 * Math.PI; i += Math.PI / 40) {
-            double x = radius * Math.cos(i) * Math.sin(time);
-            double y = radius * Math.cos(time);
-            double z = radius * Math.sin(i) * Math.sin(time);
-            origin.add(x, y, z);
-            spawnParticle(effect, origin, player);
-            origin.subtract(x, y, z);
+        if (origin.getWorld() == null) return;
+        double sinTime = radius * Math.sin(time);
+        double y = origin.getY() + radius * Math.cos(time);
+        ParticleBatch batch = createBatch(effect);
+        for (int i = 0; i < COS.length; i++) {
+            batch.add(origin.getX() + COS[i] * sinTime, y, origin.getZ() + SIN[i] * sinTime);
         }
+        sendBatch(batch, origin, player);
     }
 
     @Override
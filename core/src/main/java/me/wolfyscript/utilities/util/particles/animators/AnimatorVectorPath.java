@@ -21,8 +21,8 @@ package me.wolfyscript.utilities.util.particles.animators;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
 import me.wolfyscript.utilities.util.NamespacedKey;
-import me.wolfyscript.utilities.util.math.MathUtil;
 import me.wolfyscript.utilities.util.particles.ParticleEffect;
 import me.wolfyscript.utilities.util.particles.shapes.Shape;
 import me.wolfyscript.utilities.util.particles.timer.Timer;
@@ -82,27 +82,39 @@ public class AnimatorVectorPath extends Animator {
                 double yAxisCos = Math.cos(-angleRad.getY()); // getting the cos value for the yaw.
                 double yAxisSin = Math.sin(-angleRad.getY()); // getting the sin value for the yaw.
 
-                origin.add(vector);
-                shape.drawVectors(time, vec -> {
-                    MathUtil.rotateAroundAxisX(vec, xAxisCos, xAxisSin);
-                    MathUtil.rotateAroundAxisY(vec, yAxisCos, yAxisSin);
-                    origin.add(vec);
-                    spawnParticle(effect, origin, player);
-                    origin.subtract(vec);
-                });
-                origin.subtract(vector);
+                if (origin.getWorld() == null) return;
+                double originX = origin.getX() + vector.getX();
+                double originY = origin.getY() + vector.getY();
+                double originZ = origin.getZ() + vector.getZ();
+                double[] frame = shape.getFrame(time);
+                ParticleBatch batch = createBatch(effect);
+                if (frame != null) {
+                    for (int i = 0; i < frame.length; i += 3) {
+                        addRotated(batch, originX, originY, originZ, xAxisCos, xAxisSin, yAxisCos, yAxisSin, frame[i], frame[i + 1], frame[i + 2]);
+                    }
+                } else {
+                    shape.drawVectors(time, point -> addRotated(batch, originX, originY, originZ, xAxisCos, xAxisSin, yAxisCos, yAxisSin, point.getX(), point.getY(), point.getZ()));
+                }
+                sendBatch(batch, origin, player);
                 return;
             }
         }
         origin.add(vector); //Add vector to origin
-        shape.drawVectors(time, vec -> {
-            origin.add(vec);
-            spawnParticle(effect, origin, player);
-            origin.subtract(vec);
-        });
+        drawShape(effect, origin, shape, time, player);
         origin.subtract(vector);
     }
 
+    /**
+     * Same rotation as MathUtil#rotateAroundAxisX and MathUtil#rotateAroundAxisY, without creating a new Vector for each point.
+     */
+    private static void addRotated(ParticleBatch batch, double originX, double originY, double originZ, double xAxisCos, double xAxisSin, double yAxisCos, double yAxisSin, double pointX, double pointY, double pointZ) {
+        double y = pointY * xAxisCos - pointZ * xAxisSin;
+        double z = pointY * xAxisSin + pointZ * xAxisCos;
+        double x = pointX * yAxisCos + z * yAxisSin;
+        z = pointX * -yAxisSin + z * yAxisCos;
+        batch.add(originX + x, originY + y, originZ + z);
+    }
+
     @NotNull
     private Vector getVector(double time) {
         Iterator<Map.Entry<Double, Vector>> iterator = path.entrySet().iterator();
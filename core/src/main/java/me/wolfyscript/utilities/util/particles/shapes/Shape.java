@@ -32,7 +32,11 @@ import me.wolfyscript.utilities.util.json.jackson.KeyedTypeResolver;
 import me.wolfyscript.utilities.util.particles.timer.Timer;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 
 @JsonTypeResolver(KeyedTypeResolver.class)
@@ -42,7 +46,22 @@ import java.util.function.Consumer;
 @JsonPropertyOrder(value = {"key"})
 public abstract class Shape implements Keyed {
 
+    /**
+     * The amount of slots of the frame table of each shape. Must be a power of two.
+     */
+    private static final int FRAME_SLOTS = 256;
+
     private final NamespacedKey key;
+    @JsonIgnore
+    private final Frame[] frames = new Frame[FRAME_SLOTS];
+    /**
+     * The time (See {@link Double#doubleToLongBits(double)}) that last missed each slot.
+     * A frame is only cached once its time misses the same slot twice, so times that are only drawn once (e.g. of random timers) never allocate a frame.
+     */
+    @JsonIgnore
+    private final long[] missedTimes = new long[FRAME_SLOTS];
+    @JsonIgnore
+    private volatile double[] staticFrame;
 
     protected Shape(@NotNull NamespacedKey key) {
         Preconditions.checkArgument(key != null && !key.getKey().isEmpty() && !key.getNamespace().isEmpty(), "Invalid NamespacedKey! Namespaced cannot be null or empty!");
@@ -60,6 +79,86 @@ public abstract class Shape implements Keyed {
      */
     public abstract void drawVectors(double time, Consumer<Vector> drawVector);
 
+    /**
+     * Gets the vertices of the shape at the specified time as a flat array of offsets ({@code [x0, y0, z0, x1, y1, z1, ...]}).<br>
+     * The frames are calculated using {@link #drawVectors(double, Consumer)} and cached in a table indexed by the time value,
+     * so all the effects using this shape share the same frames.
+     * A frame is cached the second time its time value is requested, and replaces the frame of another time in the same slot.
+     * Shapes, whose vertices do not depend on the time (See {@link #isTimeDependent()}), only calculate a single frame.<br>
+     * If the frame is not cached, the caller should draw the vectors directly using {@link #drawVectors(double, Consumer)}.<br>
+     * <b>The returned array is shared and must not be modified!</b>
+     *
+     * @param time The current time value from the timer. See {@link Timer.Runner#increase()}.
+     * @return The offsets of the vertices at that time; or null if the frame is not cached.
+     */
+    @Nullable
+    public double[] getFrame(double time) {
+        if (!isTimeDependent()) {
+            double[] frame = staticFrame;
+            if (frame == null) {
+                frame = computeFrame(time);
+                staticFrame = frame;
+            }
+            return frame;
+        }
+        long timeBits = Double.doubleToLongBits(time);
+        int slot = slot(timeBits);
+        Frame frame = frames[slot];
+        if (frame != null && frame.time == timeBits) {
+            return frame.points;
+        }
+        if (missedTimes[slot] != timeBits) {
+            missedTimes[slot] = timeBits;
+            return null;
+        }
+        double[] points = computeFrame(time);
+        frames[slot] = new Frame(timeBits, points);
+        return points;
+    }
+
+    /**
+     * Specifies if the vertices of this shape depend on the time.<br>
+     * Shapes that always draw the same vertices should override this to return false, so only a single frame is cached.
+     *
+     * @return true if the vertices change over time; false otherwise.
+     */
+    @JsonIgnore
+    public boolean isTimeDependent() {
+        return true;
+    }
+
+    /**
+     * Clears the cached frames. Must be called when the settings of the shape change.
+     */
+    protected void invalidateFrames() {
+        staticFrame = null;
+        Arrays.fill(frames, null);
+    }
+
+    private static int slot(long timeBits) {
+        int hash = (int) (timeBits ^ (timeBits >>> 32));
+        return (hash ^ (hash >>> 16)) & (FRAME_SLOTS - 1);
+    }
+
+    private double[] computeFrame(double time) {
+        List<Vector> vectors = new ArrayList<>();
+        drawVectors(time, vectors::add);
+        double[] frame = new double[vectors.size() * 3];
+        int i = 0;
+        for (Vector vector : vectors) {
+            frame[i++] = vector.getX();
+            frame[i++] = vector.getY();
+            frame[i++] = vector.getZ();
+        }
+        return frame;
+    }
+
+    /**
+     * A cached frame and the time it was calculated for.
+     */
+    private record Frame(long time, double[] points) {
+    }
+
     @JsonIgnore
     @Override
     public NamespacedKey getNamespacedKey() {
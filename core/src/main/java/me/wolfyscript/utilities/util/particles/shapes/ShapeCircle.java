@@ -58,6 +58,11 @@ public class ShapeCircle extends Shape {
         }
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return false;
+    }
+
     @JsonGetter
     public double getRadius() {
         return radius;
@@ -65,6 +70,7 @@ public class ShapeCircle extends Shape {
 
     @JsonSetter
     private void setResolution(int resolution) {
+        invalidateFrames();
         this.resolution = resolution;
     }
 
@@ -80,6 +86,7 @@ public class ShapeCircle extends Shape {
 
     @JsonSetter
     private void setDirection(Direction direction) {
+        invalidateFrames();
         this.direction = direction;
         createVector = switch (direction) {
             case X_AXIS -> (t) -> {
@@ -55,4 +55,12 @@ public class ShapeComplexCompound extends Shape {
     public void drawVectors(double time, Consumer<Vector> drawVector) {
         shapes.forEach(shape -> shape.drawVectors(time, drawVector));
     }
+
+    @Override
+    public boolean isTimeDependent() {
+        for (Shape shape : shapes) {
+            if (shape.isTimeDependent()) return true;
+        }
+        return false;
+    }
 }
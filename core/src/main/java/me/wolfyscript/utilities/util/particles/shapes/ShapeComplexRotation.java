@@ -71,4 +71,9 @@ public class ShapeComplexRotation extends Shape {
         });
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return angleMultiplier.lengthSquared() != 0 || shape.isTimeDependent();
+    }
+
 }
@@ -74,6 +74,11 @@ public class ShapeCube extends Shape {
         }
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return false;
+    }
+
     @JsonGetter
     public double getRadius() {
         return radius;
@@ -81,6 +86,7 @@ public class ShapeCube extends Shape {
 
     @JsonSetter
     private void setPointsPerSide(int pointsPerSide) {
+        invalidateFrames();
         Preconditions.checkArgument(pointsPerSide > 1, "Points per side must be at least 2!");
         this.pointsPerSide = pointsPerSide;
     }
@@ -92,6 +92,11 @@ public class ShapeIcosahedron extends Shape {
         vectors.forEach(vector -> drawVector.accept(vector.clone()));
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return false;
+    }
+
     private void calcIcosahedron(int depth, double radius) {
         for (int[] tindx : TINDX) {
             subdivide(V_DATA[tindx[0]], V_DATA[tindx[1]], V_DATA[tindx[2]], depth, radius);
@@ -60,6 +60,11 @@ public class ShapeSphere extends Shape {
         }
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return false;
+    }
+
     @JsonGetter
     public double getRadius() {
         return radius;
@@ -67,6 +72,7 @@ public class ShapeSphere extends Shape {
 
     @JsonSetter
     private void setResolution(int resolution) {
+        invalidateFrames();
         this.resolution = resolution;
     }
 
@@ -82,6 +88,7 @@ public class ShapeSphere extends Shape {
 
     @JsonSetter
     private void setDirection(Direction direction) {
+        invalidateFrames();
         this.direction = direction;
         createVector = switch (direction) {
             case X_AXIS -> (i, j) -> {
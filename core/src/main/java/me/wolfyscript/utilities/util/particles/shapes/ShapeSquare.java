@@ -63,6 +63,11 @@ public class ShapeSquare extends Shape {
         }
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return false;
+    }
+
     @JsonGetter
     public double getRadius() {
         return radius;
@@ -70,6 +75,7 @@ public class ShapeSquare extends Shape {
 
     @JsonSetter
     private void setPointsPerSide(int pointsPerSide) {
+        invalidateFrames();
         Preconditions.checkArgument(pointsPerSide > 1, "Points per side must be at least 2!");
         this.pointsPerSide = pointsPerSide;
     }
@@ -86,6 +92,7 @@ public class ShapeSquare extends Shape {
 
     @JsonSetter
     private void setDirection(Direction direction) {
+        invalidateFrames();
         this.direction = direction;
         createVector = switch (direction) {
             case X_AXIS -> (t) -> new Vector[] {
@@ -0,0 +1,87 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.api.nms.v1_19_R1;
+
+import com.wolfyscript.utilities.bukkit.nms.fallback.FallbackItemDataUtilImpl;
+import de.tr7zw.changeme.nbtapi.NBTCompound;
+import de.tr7zw.changeme.nbtapi.NBTContainer;
+import me.wolfyscript.utilities.api.nms.NMSUtil;
+import me.wolfyscript.utilities.util.Reflection;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+import org.bukkit.NamespacedKey;
+import org.bukkit.craftbukkit.v1_19_R1.inventory.CraftItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads the data directly from the NMS handle of CraftItemStacks. Other items are read using the Bukkit API.
+ */
+public class ItemDataUtilImpl extends FallbackItemDataUtilImpl {
+
+    private static final Field HANDLE_FIELD = Reflection.getDeclaredField(CraftItemStack.class, "handle");
+    private static final boolean HANDLE_ACCESSIBLE = HANDLE_FIELD != null && HANDLE_FIELD.trySetAccessible();
+    /**
+     * The tag, that CraftBukkit saves the PersistentDataContainer of items in.
+     */
+    private static final String BUKKIT_VALUES_TAG = "PublicBukkitValues";
+
+    protected ItemDataUtilImpl(NMSUtil nmsUtil) {
+        super(nmsUtil);
+    }
+
+    @Override
+    public @Nullable String getPersistentString(org.bukkit.inventory.ItemStack itemStack, NamespacedKey key) {
+        if (!(itemStack instanceof CraftItemStack craftItemStack) || !HANDLE_ACCESSIBLE) {
+            return super.getPersistentString(itemStack, key);
+        }
+        ItemStack handle;
+        try {
+            handle = (ItemStack) HANDLE_FIELD.get(craftItemStack);
+        } catch (IllegalAccessException e) {
+            return super.getPersistentString(itemStack, key);
+        }
+        if (handle == null) return null;
+        CompoundTag tag = handle.getTag();
+        if (tag == null || !tag.contains(BUKKIT_VALUES_TAG, Tag.TAG_COMPOUND)) return null;
+        CompoundTag bukkitValues = tag.getCompound(BUKKIT_VALUES_TAG);
+        String valueKey = key.toString();
+        return bukkitValues.contains(valueKey, Tag.TAG_STRING) ? bukkitValues.getString(valueKey) : null;
+    }
+
+    @Override
+    public @Nullable NBTCompound getNBTCompound(@Nullable org.bukkit.inventory.ItemStack itemStack) {
+        if (!(itemStack instanceof CraftItemStack craftItemStack) || !HANDLE_ACCESSIBLE) {
+            return super.getNBTCompound(itemStack);
+        }
+        ItemStack handle;
+        try {
+            handle = (ItemStack) HANDLE_FIELD.get(craftItemStack);
+        } catch (IllegalAccessException e) {
+            return super.getNBTCompound(itemStack);
+        }
+        if (handle == null || handle.isEmpty()) return null;
+        CompoundTag tag = handle.getTag();
+        // Wraps the tag of the item itself, instead of a copy.
+        return tag != null ? new NBTContainer(tag) : new NBTContainer();
+    }
+
+}
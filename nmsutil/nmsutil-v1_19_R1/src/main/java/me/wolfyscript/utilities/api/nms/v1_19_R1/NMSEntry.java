@@ -33,6 +33,7 @@ public class NMSEntry extends NMSUtil {
         super(wolfyUtilities);
         this.blockUtil = new BlockUtilImpl(this);
         this.itemUtil = new ItemUtilImpl(this);
+        this.itemDataUtil = new ItemDataUtilImpl(this);
         this.inventoryUtil = new InventoryUtilImpl(this);
         this.nbtUtil = new NBTUtilImpl(this);
         this.recipeUtil = new RecipeUtilImpl(this);
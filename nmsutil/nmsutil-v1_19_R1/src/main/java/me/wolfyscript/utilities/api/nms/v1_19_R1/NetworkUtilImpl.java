@@ -22,7 +22,11 @@ import io.netty.buffer.ByteBuf;
 import me.wolfyscript.utilities.api.nms.NMSUtil;
 import me.wolfyscript.utilities.api.nms.NetworkUtil;
 import me.wolfyscript.utilities.api.nms.network.MCByteBuf;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
 import me.wolfyscript.utilities.api.nms.v1_19_R1.network.MCByteBufImpl;
+import me.wolfyscript.utilities.api.nms.v1_19_R1.network.ParticleBatchImpl;
+import org.bukkit.Particle;
+import org.jetbrains.annotations.Nullable;
 
 public class NetworkUtilImpl extends NetworkUtil {
 
@@ -39,4 +43,9 @@ public class NetworkUtilImpl extends NetworkUtil {
     public MCByteBuf buffer() {
         return new MCByteBufImpl();
     }
+
+    @Override
+    public ParticleBatch createParticleBatch(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data) {
+        return new ParticleBatchImpl(particle, count, offsetX, offsetY, offsetZ, extra, data);
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ *       WolfyUtilities, APIs and Utilities for Minecraft Spigot plugins
+ *                      Copyright (C) 2021  WolfyScript
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.wolfyscript.utilities.api.nms.v1_19_R1.network;
+
+import io.netty.channel.Channel;
+import me.wolfyscript.utilities.api.nms.network.ParticleBatch;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import org.bukkit.Particle;
+import org.bukkit.craftbukkit.v1_19_R1.CraftParticle;
+import org.bukkit.craftbukkit.v1_19_R1.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Creates the particle packets of all the points once, and sends the same packets to each viewer, with a single flush per viewer.<br>
+ * Sending the particles via the Bukkit API instead creates a new packet for each point and player, and flushes the channel after each of them.
+ */
+public class ParticleBatchImpl implements ParticleBatch {
+
+    private final ParticleOptions options;
+    private final int count;
+    private final float offsetX;
+    private final float offsetY;
+    private final float offsetZ;
+    private final float extra;
+    private double[] points = new double[48];
+    private int size = 0;
+    /**
+     * The packets of the points, which are created on the first send, and reused until points are added or the batch is cleared.
+     */
+    private ClientboundLevelParticlesPacket[] packets = null;
+
+    public ParticleBatchImpl(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data) {
+        if (data != null && !particle.getDataType().isInstance(data)) {
+            throw new IllegalArgumentException("data should be " + particle.getDataType() + " got " + data.getClass());
+        }
+        this.options = CraftParticle.toNMS(particle, data);
+        this.count = count;
+        this.offsetX = (float) offsetX;
+        this.offsetY = (float) offsetY;
+        this.offsetZ = (float) offsetZ;
+        this.extra = (float) extra;
+    }
+
+    @Override
+    public void add(double x, double y, double z) {
+        if (size + 3 > points.length) {
+            points = Arrays.copyOf(points, points.length * 2);
+        }
+        points[size++] = x;
+        points[size++] = y;
+        points[size++] = z;
+        packets = null;
+    }
+
+    @Override
+    public int size() {
+        return size / 3;
+    }
+
+    @Override
+    public void send(Collection<? extends Player> viewers, int step) {
+        if (size == 0 || viewers.isEmpty()) return;
+        // The packets are immutable, so the same instances are shared by all viewers.
+        ClientboundLevelParticlesPacket[] batchPackets = getPackets();
+        int stride = Math.max(1, step);
+        for (Player viewer : viewers) {
+            ServerGamePacketListenerImpl listener = ((CraftPlayer) viewer).getHandle().connection;
+            if (listener == null || !listener.connection.isConnected()) continue;
+            Channel channel = listener.connection.channel;
+            // The connection only queues packets while it is not connected, so there are no queued packets that must be sent first.
+            // Packets of the server, that are sent from outside the event loop, are passed to it as tasks too, so this task keeps their order.
+            Runnable write = () -> {
+                for (int i = 0; i < batchPackets.length; i += stride) {
+                    channel.write(batchPackets[i], channel.voidPromise());
+                }
+                channel.flush();
+            };
+            if (channel.eventLoop().inEventLoop()) {
+                write.run();
+            } else {
+                channel.eventLoop().execute(write);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        packets = null;
+    }
+
+    private ClientboundLevelParticlesPacket[] getPackets() {
+        if (packets == null) {
+            packets = new ClientboundLevelParticlesPacket[size / 3];
+            for (int i = 0; i < packets.length; i++) {
+                int index = i * 3;
+                packets[i] = new ClientboundLevelParticlesPacket(options, false, points[index], points[index + 1], points[index + 2], offsetX, offsetY, offsetZ, extra, count);
+            }
+        }
+        return packets;
+    }
+}
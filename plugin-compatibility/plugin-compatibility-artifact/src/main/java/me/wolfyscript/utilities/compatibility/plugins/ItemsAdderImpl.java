@@ -62,6 +62,8 @@ public class ItemsAdderImpl extends PluginIntegrationAbstract implements ItemsAd
     public void onLoaded(ItemsAdderLoadDataEvent event) {
         if (event.getCause().equals(ItemsAdderLoadDataEvent.Cause.FIRST_LOAD)) {
             markAsDoneLoading();
+        } else {
+            APIReference.invalidateLinkedItemTemplates(); // Reloaded, so the items may have changed.
         }
     }
 
@@ -23,10 +23,14 @@ import me.wolfyscript.utilities.api.WolfyUtilCore;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.compatibility.PluginIntegrationAbstract;
 import me.wolfyscript.utilities.compatibility.plugins.mmoitems.MMOItemsRefImpl;
+import net.Indyuce.mmoitems.api.event.MMOItemsReloadEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 
 @WUPluginIntegration(pluginName = MMOItemsImpl.PLUGIN_NAME)
-public class MMOItemsImpl extends PluginIntegrationAbstract {
+public class MMOItemsImpl extends PluginIntegrationAbstract implements Listener {
 
     static final String PLUGIN_NAME = "MMOItems";
 
@@ -37,6 +41,7 @@ public class MMOItemsImpl extends PluginIntegrationAbstract {
     @Override
     public void init(Plugin plugin) {
         core.registerAPIReference(new MMOItemsRefImpl.Parser());
+        Bukkit.getPluginManager().registerEvents(this, core);
     }
 
     @Override
@@ -48,4 +53,9 @@ public class MMOItemsImpl extends PluginIntegrationAbstract {
     public boolean isAPIReferenceIncluded(APIReference reference) {
         return reference instanceof MMOItemsRefImpl;
     }
+
+    @EventHandler
+    public void onReload(MMOItemsReloadEvent event) {
+        APIReference.invalidateLinkedItemTemplates(); // Reloaded, so the items may have changed.
+    }
 }
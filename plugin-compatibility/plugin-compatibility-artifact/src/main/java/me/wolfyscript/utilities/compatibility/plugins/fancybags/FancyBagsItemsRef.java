@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import de.tr7zw.changeme.nbtapi.NBTItem;
 import de.tr7zw.changeme.nbtapi.NBTType;
 import java.io.IOException;
+import java.util.Set;
 import me.chickenstyle.backpack.Backpack;
 import me.chickenstyle.backpack.Utils;
 import me.chickenstyle.backpack.configs.CustomBackpacks;
@@ -63,10 +64,17 @@ public class FancyBagsItemsRef extends APIReference {
 
     public static class Parser extends PluginParser<FancyBagsItemsRef> {
 
+        private static final Set<String> MARKER_KEYS = Set.of(ID_TAG);
+
         public Parser() {
             super(FancyBagsImpl.KEY, "fancybags");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return MARKER_KEYS;
+        }
+
         @Override
         public @Nullable FancyBagsItemsRef construct(ItemStack itemStack) {
             NBTItem nbtItem = new NBTItem(itemStack);
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.util.inventory.ItemUtils;
 import org.bukkit.inventory.ItemStack;
@@ -60,6 +61,14 @@ public class ItemsAdderRefImpl extends APIReference implements ItemsAdderRef {
         return ItemUtils.AIR;
     }
 
+    /**
+     * ItemsAdder items only change when ItemsAdder reloads, which invalidates the linked item templates.
+     */
+    @Override
+    public int getLinkedItemVersion() {
+        return getLinkedItemTemplatesVersion();
+    }
+
     @Override
     public ItemStack getIdItem() {
         return getLinkedItem();
@@ -101,10 +110,17 @@ public class ItemsAdderRefImpl extends APIReference implements ItemsAdderRef {
 
     public static class Parser extends PluginParser<ItemsAdderRefImpl> {
 
+        private static final Set<String> MARKER_KEYS = Set.of("itemsadder");
+
         public Parser() {
             super("ItemsAdder", "itemsadder");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return MARKER_KEYS;
+        }
+
         @Override
         public @Nullable ItemsAdderRefImpl construct(ItemStack itemStack) {
             var customStack = CustomStack.byItemStack(itemStack);
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.Type;
@@ -38,6 +39,7 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
 
     private final Type itemType;
     private final String itemName;
+    private boolean cacheLinkedItem = false;
 
     public MMOItemsRefImpl(Type itemType, String itemName) {
         super();
@@ -49,14 +51,38 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
         super(mmoItemsRefImpl);
         this.itemName = mmoItemsRefImpl.itemName;
         this.itemType = mmoItemsRefImpl.itemType;
+        this.cacheLinkedItem = mmoItemsRefImpl.cacheLinkedItem;
     }
 
     @Override
     public ItemStack getLinkedItem() {
+        return cacheLinkedItem ? getCachedLinkedItem(this::buildItem) : buildItem();
+    }
+
+    private ItemStack buildItem() {
         MMOItem item = MMOItems.plugin.getMMOItem(itemType, itemName);
         return item != null ? item.newBuilder().buildSilently() : null;
     }
 
+    /**
+     * Cached items only change when MMOItems reloads, which invalidates the linked item templates.
+     * Otherwise, a new item (with new random stats) is built on each call.
+     */
+    @Override
+    public int getLinkedItemVersion() {
+        return cacheLinkedItem ? getLinkedItemTemplatesVersion() : NO_LINKED_ITEM_VERSION;
+    }
+
+    @Override
+    public boolean isCacheLinkedItem() {
+        return cacheLinkedItem;
+    }
+
+    @Override
+    public void setCacheLinkedItem(boolean cacheLinkedItem) {
+        this.cacheLinkedItem = cacheLinkedItem;
+    }
+
     @Override
     public ItemStack getIdItem() {
         return getLinkedItem();
@@ -76,6 +102,9 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
         gen.writeObjectFieldStart("mmoitems");
         gen.writeStringField("type", itemType.getId());
         gen.writeStringField("name", itemName);
+        if (cacheLinkedItem) {
+            gen.writeBooleanField("cache", true);
+        }
         gen.writeEndObject();
     }
 
@@ -84,12 +113,12 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
         if (this == o) return true;
         if (!(o instanceof MMOItemsRefImpl that)) return false;
         if (!super.equals(o)) return false;
-        return Objects.equals(itemType, that.itemType) && Objects.equals(itemName, that.itemName);
+        return cacheLinkedItem == that.cacheLinkedItem && Objects.equals(itemType, that.itemType) && Objects.equals(itemName, that.itemName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), itemType, itemName);
+        return Objects.hash(super.hashCode(), itemType, itemName, cacheLinkedItem);
     }
 
     @Override
@@ -99,10 +128,17 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
 
     public static class Parser extends PluginParser<MMOItemsRefImpl> {
 
+        private static final Set<String> MARKER_KEYS = Set.of("MMOITEMS_ITEM_TYPE");
+
         public Parser() {
             super("MMOItems", "mmoitems");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return MARKER_KEYS;
+        }
+
         @Override
         public @Nullable
         MMOItemsRefImpl construct(ItemStack itemStack) {
@@ -121,7 +157,9 @@ public class MMOItemsRefImpl extends APIReference implements MMOItemsRef {
             if (element.has("type") && element.has("name")) {
                 String typeID = element.get("type").asText();
                 if (MMOItems.plugin.getTypes().has(typeID)) {
-                    return new MMOItemsRefImpl(MMOItems.plugin.getTypes().get(typeID), element.get("name").asText());
+                    var reference = new MMOItemsRefImpl(MMOItems.plugin.getTypes().get(typeID), element.get("name").asText());
+                    reference.setCacheLinkedItem(element.path("cache").asBoolean(false));
+                    return reference;
                 }
             }
             return null;
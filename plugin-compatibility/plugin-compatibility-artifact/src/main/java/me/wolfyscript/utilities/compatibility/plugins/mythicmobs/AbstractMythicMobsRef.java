@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 import me.wolfyscript.utilities.api.WolfyUtilities;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.api.nms.nbt.NBTItem;
@@ -81,10 +82,17 @@ public abstract class AbstractMythicMobsRef extends APIReference implements Myth
 
     protected static abstract class Parser<T extends AbstractMythicMobsRef> extends PluginParser<T> {
 
+        private static final Set<String> MARKER_KEYS = Set.of(ITEM_KEY);
+
         public Parser() {
             super("MythicMobs", "mythicmobs");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return MARKER_KEYS;
+        }
+
         @Override
         public @Nullable
         T construct(ItemStack itemStack) {
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import io.th0rgal.oraxen.items.OraxenItems;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 import me.wolfyscript.utilities.api.inventory.custom_items.references.APIReference;
 import me.wolfyscript.utilities.util.inventory.ItemUtils;
 import org.bukkit.inventory.ItemStack;
@@ -102,6 +103,11 @@ public class OraxenRefImpl extends APIReference implements OraxenRef {
             super("Oraxen", "oraxen");
         }
 
+        @Override
+        public Set<String> getMarkerKeys() {
+            return PERSISTENT_DATA_MARKER;
+        }
+
         @Override
         public @Nullable OraxenRefImpl construct(ItemStack itemStack) {
             String itemId = OraxenItems.getIdByItem(itemStack);
@@ -0,0 +1,71 @@
+package com.wolfyscript.utilities.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestConcurrentLongObjectMap {
+
+    private static final int KEY_RANGE = 16 * 16 * 384; // The amount of block positions in a chunk.
+    private static final int READERS = 8;
+
+    /**
+     * Simulates async plugins reading stored blocks, while the main thread places and breaks blocks.
+     */
+    @Test
+    public void concurrentReadsWhileWriting() throws Exception {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<Long>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(executor.submit(() -> {
+                    long reads = 0;
+                    var random = ThreadLocalRandom.current();
+                    while (writing.get()) {
+                        long key = random.nextInt(KEY_RANGE);
+                        Long value = map.get(key);
+                        // Each value is the same as its key, so a torn or misplaced read is detected right away.
+                        if (value != null) {
+                            Assertions.assertEquals(key, value.longValue());
+                        }
+                        if (reads % 1000 == 0) {
+                            map.forEach((entryKey, entryValue) -> Assertions.assertEquals(entryKey, entryValue.longValue()));
+                        }
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+
+            var random = ThreadLocalRandom.current();
+            for (int i = 0; i < 500_000; i++) {
+                long key = random.nextInt(KEY_RANGE);
+                if (random.nextBoolean()) {
+                    map.put(key, key);
+                } else {
+                    map.remove(key);
+                }
+            }
+            writing.set(false);
+
+            for (Future<Long> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS); // Rethrows the failed assertions of the readers.
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+        map.forEach((key, value) -> Assertions.assertEquals(key, value.longValue()));
+        Assertions.assertEquals(map.keys().length, map.size());
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.wolfyscript.utilities.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLongObjectMap {
+
+    @Test
+    public void putGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.put(0, "zero"));
+        Assertions.assertNull(map.put(-1, "minus_one"));
+        Assertions.assertEquals("zero", map.put(0, "zero_new"));
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals("zero_new", map.get(0));
+        Assertions.assertEquals("minus_one", map.get(-1));
+        Assertions.assertNull(map.get(1));
+
+        Assertions.assertEquals("minus_one", map.remove(-1));
+        Assertions.assertFalse(map.containsKey(-1));
+        Assertions.assertNull(map.remove(-1));
+        Assertions.assertEquals(1, map.size());
+
+        map.put(0, null);
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void matchesHashMap() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // Use a small key range, so that there are plenty of updates and removals of existing keys.
+            long key = random.nextInt(4096) - 2048L;
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                Assertions.assertEquals(reference.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        Assertions.assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> Assertions.assertEquals(value, map.get(key)));
+        map.forEach((key, value) -> Assertions.assertEquals(reference.get(key), value));
+        Assertions.assertEquals(reference.size(), map.keys().length);
+        Assertions.assertEquals(reference.size(), map.values().size());
+    }
+
+}
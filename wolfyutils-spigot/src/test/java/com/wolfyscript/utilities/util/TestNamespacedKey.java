@@ -60,4 +60,29 @@ public class TestNamespacedKey {
         Assertions.assertEquals("root/obj", key3.toString("/", true));
     }
 
+    @Test
+    public void checkValidation() {
+        Assertions.assertTrue(NamespacedKey.isValidNamespace("test_namespace.1-2"));
+        Assertions.assertFalse(NamespacedKey.isValidNamespace(""));
+        Assertions.assertFalse(NamespacedKey.isValidNamespace("test/namespace"));
+        Assertions.assertFalse(NamespacedKey.isValidNamespace("Test"));
+        Assertions.assertTrue(NamespacedKey.isValidKey("root/folder/obj_1.2-3"));
+        Assertions.assertFalse(NamespacedKey.isValidKey(""));
+        Assertions.assertFalse(NamespacedKey.isValidKey("root:obj"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NamespacedKey("namespace", "obj key"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NamespacedKey("name space", "obj"));
+    }
+
+    @Test
+    public void checkInterning() {
+        NamespacedKey parsed = NamespacedKey.of("Namespace:Root/Obj");
+        Assertions.assertNotNull(parsed);
+        Assertions.assertEquals("namespace:root/obj", parsed.toString());
+        Assertions.assertSame(parsed, NamespacedKey.of("namespace:root/obj"));
+        Assertions.assertSame(parsed, NamespacedKey.of("Namespace:Root/Obj"));
+        Assertions.assertEquals(new NamespacedKey("namespace", "root/obj"), parsed);
+        Assertions.assertEquals(new NamespacedKey("namespace", "root/obj").hashCode(), parsed.hashCode());
+        Assertions.assertEquals("namespace/root/obj", parsed.toString("/"));
+    }
+
 }
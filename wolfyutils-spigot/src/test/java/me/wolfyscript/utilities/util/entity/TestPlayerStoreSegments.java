@@ -0,0 +1,110 @@
+package me.wolfyscript.utilities.util.entity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestPlayerStoreSegments {
+
+    private static final Logger LOGGER = Logger.getLogger(TestPlayerStoreSegments.class.getName());
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void writeReadAndReopen() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            segments.write(Map.of(first, new byte[]{1, 2, 3}, second, new byte[]{4}));
+            segments.write(Map.of(first, new byte[]{5, 6}));
+            Assertions.assertArrayEquals(new byte[]{5, 6}, segments.read(first));
+            Assertions.assertArrayEquals(new byte[]{4}, segments.read(second));
+            Assertions.assertNull(segments.read(UUID.randomUUID()));
+        }
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            Assertions.assertEquals(2, segments.size());
+            Assertions.assertArrayEquals(new byte[]{5, 6}, segments.read(first));
+            Assertions.assertArrayEquals(new byte[]{4}, segments.read(second));
+        }
+    }
+
+    @Test
+    public void compactsReplacedRecords() throws IOException {
+        Map<UUID, byte[]> latest = new HashMap<>();
+        for (int i = 0; i < 16; i++) {
+            latest.put(UUID.randomUUID(), new byte[0]);
+        }
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            // Rewrite the same players, until the replaced records are large enough to be compacted.
+            for (int round = 0; round < 20; round++) {
+                for (UUID uuid : latest.keySet()) {
+                    byte[] data = new byte[65536];
+                    data[0] = (byte) round;
+                    latest.put(uuid, data);
+                }
+                segments.write(latest);
+            }
+            for (Map.Entry<UUID, byte[]> entry : latest.entrySet()) {
+                Assertions.assertArrayEquals(entry.getValue(), segments.read(entry.getKey()));
+            }
+        }
+        long totalSize = 0;
+        try (var files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                totalSize += Files.size(file);
+            }
+        }
+        Assertions.assertTrue(totalSize < 20L * 16 * 65536 / 2, "Segments were not compacted");
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            for (Map.Entry<UUID, byte[]> entry : latest.entrySet()) {
+                Assertions.assertArrayEquals(entry.getValue(), segments.read(entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void cutsOffIncompleteRecord() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            segments.write(Map.of(uuid, new byte[]{1, 2, 3}));
+        }
+        try (var files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                if (Files.size(file) > 0) {
+                    // Simulate a crash while appending the next record.
+                    Files.write(file, new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+                }
+            }
+        }
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            Assertions.assertArrayEquals(new byte[]{1, 2, 3}, segments.read(uuid));
+            segments.write(Map.of(uuid, new byte[]{7}));
+        }
+        try (var segments = new PlayerStoreSegments(folder, LOGGER)) {
+            Assertions.assertArrayEquals(new byte[]{7}, segments.read(uuid));
+        }
+    }
+
+    @Test
+    public void migratesLegacyStores() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        Path legacyFile = folder.resolve(uuid + ".store");
+        Files.write(legacyFile, new byte[]{9, 8, 7});
+        Files.write(folder.resolve("invalid.store"), new byte[]{1});
+        try (var segments = new PlayerStoreSegments(folder.resolve("segments"), LOGGER)) {
+            Assertions.assertEquals(1, segments.migrateLegacyStores(folder));
+            Assertions.assertArrayEquals(new byte[]{9, 8, 7}, segments.read(uuid));
+        }
+        Assertions.assertFalse(Files.exists(legacyFile));
+    }
+
+}
@@ -0,0 +1,54 @@
+package me.wolfyscript.utilities.util.particles;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestParticleLOD {
+
+    @Test
+    public void selectsBandByDistance() {
+        var near = new ParticleLOD.Band(12, 0.5, 1);
+        var far = new ParticleLOD.Band(24, 0.25, 2);
+        // Bands are sorted by distance, regardless of the configured order.
+        var lod = new ParticleLOD(List.of(far, near), true, 0.8);
+        Assertions.assertEquals(List.of(near, far), lod.getBands());
+
+        Assertions.assertNull(lod.getBand(0));
+        Assertions.assertNull(lod.getBand(11.9 * 11.9));
+        Assertions.assertEquals(near, lod.getBand(12 * 12));
+        Assertions.assertEquals(near, lod.getBand(20 * 20));
+        Assertions.assertEquals(far, lod.getBand(24 * 24));
+        Assertions.assertEquals(far, lod.getBand(100 * 100));
+    }
+
+    @Test
+    public void densityToStep() {
+        Assertions.assertEquals(1, new ParticleLOD.Band(0, 1, 1).getStep());
+        Assertions.assertEquals(1, new ParticleLOD.Band(0, 1.5, 1).getStep());
+        Assertions.assertEquals(2, new ParticleLOD.Band(0, 0.5, 1).getStep());
+        Assertions.assertEquals(3, new ParticleLOD.Band(0, 0.33, 1).getStep());
+        Assertions.assertEquals(4, new ParticleLOD.Band(0, 0.25, 1).getStep());
+    }
+
+    @Test
+    public void defaultsMissingBandValues() throws JsonProcessingException {
+        var band = new ObjectMapper().readValue("{\"distance\": 16}", ParticleLOD.Band.class);
+        Assertions.assertEquals(new ParticleLOD.Band(16, 1, 1), band);
+        var configured = new ObjectMapper().readValue("{\"distance\": 16, \"density\": 0, \"frameInterval\": 3}", ParticleLOD.Band.class);
+        Assertions.assertEquals(new ParticleLOD.Band(16, 0, 3), configured);
+    }
+
+    @Test
+    public void keepsEvenFrames() {
+        var lod = new ParticleLOD(List.of(), true, 0.8);
+        // Even frames are always drawn, even under pressure.
+        Assertions.assertFalse(lod.shouldDropFrame(0));
+        Assertions.assertFalse(lod.shouldDropFrame(2));
+        lod.setDropFrames(false);
+        Assertions.assertFalse(lod.shouldDropFrame(1));
+    }
+
+}